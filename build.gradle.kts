@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.4.3"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com"
@@ -9,7 +10,7 @@ version = "0.0.1-SNAPSHOT"
 
 java {
     toolchain {
-        languageVersion = JavaLanguageVersion.of(17)
+        languageVersion = JavaLanguageVersion.of(21)
     }
 }
 
@@ -36,8 +37,27 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     // https://mvnrepository.com/artifact/org.springframework.boot/spring-boot-starter-data-redis
     implementation("org.springframework.boot:spring-boot-starter-data-redis:3.4.0")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.github.ben-manes.caffeine:jcache") // Hibernate 2차 캐시 (JCache)
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.jctools:jctools-core:4.0.5")
+    implementation("io.netty:netty-common")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop") // @Timed
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// ./gradlew jmh -Pjmh.includes=NoticeSearchBenchmark
+// 결과는 build/results/jmh/results.json (이전 결과와 비교하여 성능 저하 확인)
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    (project.findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+}
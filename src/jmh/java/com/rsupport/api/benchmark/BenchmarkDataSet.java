@@ -0,0 +1,122 @@
+package com.rsupport.api.benchmark;
+
+import com.rsupport.api.RsupportApplication;
+import com.rsupport.api.service.NGramTokenizer;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 기동 및 공지사항 데이터 적재
+ * JPA를 거치지 않고 JDBC 배치로 NOTICE와 역색인 테이블을 채움
+ */
+final class BenchmarkDataSet {
+    static final String COMMON_KEYWORD = "점검";
+    static final String RARE_KEYWORD = "긴급패치";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] WORDS = {
+            "공지사항", "점검", "서버", "업데이트", "안내", "배포", "이벤트", "당첨자", "발표", "시스템",
+            "장애", "복구", "완료", "예정", "변경", "정책", "개인정보", "처리방침", "약관", "서비스",
+            "notice", "release", "maintenance", "update", "server", "policy", "event", "account", "login", "security"
+    };
+
+    private static final String INSERT_NOTICE_SQL =
+            "INSERT INTO NOTICE (ID, TITLE, CONTENT, START_AT, END_AT, CREATED_AT, UPDATED_AT, VERSION, VIEW_COUNT, AUTHOR_ID) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_ATTACHMENT_SQL =
+            "INSERT INTO ATTACHMENT (ID, FILE_NAME, FILE_URL, FILE_SIZE, CHECKSUM, NOTICE_ID) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TOKEN_SQL =
+            "INSERT INTO NOTICE_SEARCH_TOKEN (TOKEN, FIELD, NOTICE_ID, WEIGHT) VALUES (?, ?, ?, ?)";
+
+    private BenchmarkDataSet() {
+    }
+
+    /**
+     * 벤치마크 전용 인메모리 H2로 애플리케이션 컨텍스트 기동 (웹 서버 없음)
+     * Redis는 로컬 Redis(localhost:6379)의 15번 DB를 사용
+     */
+    static ConfigurableApplicationContext start(String databaseName) {
+        return start(databaseName, WebApplicationType.NONE);
+    }
+
+    /**
+     * 웹 서버까지 기동 (server.port=0, 실제 포트는 local.server.port 속성)
+     */
+    static ConfigurableApplicationContext startWeb(String databaseName, String... properties) {
+        return start(databaseName, WebApplicationType.SERVLET, properties);
+    }
+
+    private static ConfigurableApplicationContext start(String databaseName, WebApplicationType webApplicationType, String... properties) {
+        return new SpringApplicationBuilder(RsupportApplication.class)
+                .web(webApplicationType)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.data.redis.database=15",
+                        "server.port=0",
+                        "logging.level.root=WARN")
+                .properties(properties)
+                .run();
+    }
+
+    /**
+     * 공지사항 rows건과 역색인 토큰을 적재
+     * 모든 공지는 게시 기간 안에 있으며, 1,000건 중 1건의 내용에 RARE_KEYWORD가 포함되고 10건 중 1건에 첨부파일이 있음
+     */
+    static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp startAt = Timestamp.valueOf(now.minusDays(30));
+        Timestamp endAt = Timestamp.valueOf(now.plusDays(30));
+
+        for (long from = 1; from <= rows; from += BATCH_SIZE) {
+            long to = Math.min(rows, from + BATCH_SIZE - 1);
+            List<Object[]> notices = new ArrayList<>();
+            List<Object[]> attachments = new ArrayList<>();
+            List<Object[]> tokens = new ArrayList<>();
+
+            for (long id = from; id <= to; id++) {
+                String title = sentence(random, 3);
+                String content = sentence(random, 12) + (id % 1_000 == 0 ? " " + RARE_KEYWORD : "");
+                Timestamp createdAt = Timestamp.valueOf(now.minusSeconds(rows - id));
+                notices.add(new Object[]{id, title, content, startAt, endAt, createdAt, createdAt, 0, 1L});
+
+                if (id % 10 == 0) {
+                    attachments.add(new Object[]{id / 10, "attachment-" + id + ".pdf", "uploads/attachment-" + id + ".pdf",
+                            1024L, "0".repeat(64), id});
+                }
+
+                long noticeId = id;
+                NGramTokenizer.tokenize(title).forEach((token, count) ->
+                        tokens.add(new Object[]{token, "TITLE", noticeId, count * 3}));
+                NGramTokenizer.tokenize(content).forEach((token, count) ->
+                        tokens.add(new Object[]{token, "CONTENT", noticeId, count}));
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_NOTICE_SQL, notices);
+            jdbcTemplate.batchUpdate(INSERT_ATTACHMENT_SQL, attachments);
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, tokens);
+        }
+
+        // id를 직접 넣었으므로 JPA가 할당할 시퀀스(allocationSize 50, pooled)를 적재한 id 뒤로 이동
+        jdbcTemplate.execute("ALTER SEQUENCE NOTICE_SEQ RESTART WITH " + (rows + 51));
+        jdbcTemplate.execute("ALTER SEQUENCE ATTACHMENT_SEQ RESTART WITH " + (rows / 10 + 51));
+    }
+
+    private static String sentence(Random random, int wordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.rsupport.api.benchmark;
+
+import com.rsupport.api.dto.UploadedFileDto;
+import com.rsupport.api.service.FileServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * FileServiceImpl.upload: 파일 크기별 저장 시간
+ * 업로드 원본은 multipart 임시 파일과 같이 디스크의 파일로 두고, 매 호출 후 저장된 파일을 삭제
+ * ./gradlew jmh -Pjmh.includes=FileUploadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class FileUploadBenchmark {
+
+    @Param({"4096", "1048576", "67108864"})
+    private long fileSize;
+
+    private Path workDir;
+    private MultipartFile source;
+    private FileServiceImpl fileService;
+    private UploadedFileDto uploaded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("upload-benchmark");
+        Path sourcePath = workDir.resolve("source.bin");
+        byte[] chunk = new byte[64 * 1024];
+        new Random(42).nextBytes(chunk);
+        try (var out = Files.newOutputStream(sourcePath)) {
+            for (long written = 0; written < fileSize; written += chunk.length) {
+                out.write(chunk, 0, (int) Math.min(chunk.length, fileSize - written));
+            }
+        }
+        source = new FileBackedMultipartFile(sourcePath);
+        fileService = new FileServiceImpl(workDir.resolve("uploads").toString());
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteUploaded() throws IOException {
+        Files.deleteIfExists(Path.of(uploaded.getPath()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(workDir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public UploadedFileDto upload() {
+        uploaded = fileService.upload(source);
+        return uploaded;
+    }
+
+    /**
+     * 디스크의 파일을 내용으로 가지는 MultipartFile (file-size-threshold를 넘는 업로드와 같은 형태)
+     */
+    private static class FileBackedMultipartFile implements MultipartFile {
+        private final Path path;
+
+        FileBackedMultipartFile(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public String getName() {
+            return "files";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "source.bin";
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.rsupport.api.benchmark;
+
+import com.rsupport.api.dto.NoticeDetailResponseDto;
+import com.rsupport.api.service.NoticeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NoticeServiceImpl.getNotice: 무작위 공지 상세 조회 (상세 캐시와 Redis 조회수 증가 포함)
+ * 로컬 Redis(localhost:6379)가 필요하며 15번 DB를 사용하고 종료 시 비움
+ * ./gradlew jmh -Pjmh.includes=NoticeDetailBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class NoticeDetailBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int notices;
+
+    private ConfigurableApplicationContext context;
+    private NoticeService noticeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkDataSet.start("detail-benchmark-" + notices);
+        noticeService = context.getBean(NoticeService.class);
+        BenchmarkDataSet.seed(context.getBean(JdbcTemplate.class), notices);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try (RedisConnection connection = context.getBean(RedisConnectionFactory.class).getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public NoticeDetailResponseDto getNotice() {
+        return noticeService.getNotice(ThreadLocalRandom.current().nextLong(1, notices + 1));
+    }
+}
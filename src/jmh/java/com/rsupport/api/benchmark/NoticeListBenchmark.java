@@ -0,0 +1,70 @@
+package com.rsupport.api.benchmark;
+
+import com.rsupport.api.cache.ActiveNoticeRegistry;
+import com.rsupport.api.dto.enums.SearchType;
+import com.rsupport.api.service.NoticeService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NoticeServiceImpl.getNotices: 검색 타입별(NONE은 검색 조건 없음, ActiveNoticeRegistry에서 응답) 첫 페이지, 중간 페이지, 마지막 페이지
+ * ./gradlew jmh -Pjmh.includes=NoticeListBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class NoticeListBenchmark {
+    private static final int PAGE_SIZE = 10;
+
+    @Param({"10000", "100000", "1000000"})
+    private int notices;
+
+    @Param({"NONE", "TITLE", "TITLE_CONTENT"})
+    private String searchType;
+
+    // 검색 결과 전체 페이지 중 위치(%)
+    @Param({"0", "50", "100"})
+    private int pageDepth;
+
+    private ConfigurableApplicationContext context;
+    private NoticeService noticeService;
+    private SearchType type;
+    private String keyword;
+    private Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkDataSet.start("service-benchmark-" + notices);
+        noticeService = context.getBean(NoticeService.class);
+        BenchmarkDataSet.seed(context.getBean(JdbcTemplate.class), notices);
+        context.getBean(ActiveNoticeRegistry.class).reload(); // 검색 조건이 없는 목록은 메모리에서 응답
+
+        type = "NONE".equals(searchType) ? null : SearchType.valueOf(searchType);
+        keyword = type == null ? null : BenchmarkDataSet.COMMON_KEYWORD;
+        Page<?> first = noticeService.getNotices(type, keyword, null, null, page(0));
+        int lastPage = Math.max(0, first.getTotalPages() - 1);
+        pageable = page(lastPage * pageDepth / 100);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<?> getNotices() {
+        return noticeService.getNotices(type, keyword, null, null, pageable);
+    }
+
+    private static Pageable page(int page) {
+        return PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+}
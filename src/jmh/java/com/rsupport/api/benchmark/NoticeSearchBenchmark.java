@@ -0,0 +1,93 @@
+package com.rsupport.api.benchmark;
+
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.enums.SearchType;
+import com.rsupport.api.repository.NoticeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TITLE_CONTENT 검색: 기존 LIKE '%keyword%' 쿼리(기준)와 n-gram 역색인 후보를 LIKE로 확인하는 최신순/점수순 조회 비교
+ * ./gradlew jmh -Pjmh.includes=NoticeSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class NoticeSearchBenchmark {
+    private static final String LIKE_CONDITION = "WHERE n.startAt <= :today AND n.endAt >= :today " +
+            "AND (n.title LIKE :pattern OR n.content LIKE :pattern)";
+
+    @Param({"100000", "1000000"})
+    private int notices;
+
+    @Param({BenchmarkDataSet.COMMON_KEYWORD, BenchmarkDataSet.RARE_KEYWORD})
+    private String keyword;
+
+    private ConfigurableApplicationContext context;
+    private NoticeRepository noticeRepository;
+    private EntityManagerFactory entityManagerFactory;
+    private LocalDateTime today;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkDataSet.start("search-benchmark-" + notices);
+        noticeRepository = context.getBean(NoticeRepository.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        BenchmarkDataSet.seed(context.getBean(JdbcTemplate.class), notices);
+        today = LocalDateTime.now();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * 기준: 역색인 없이 제목/내용 전체를 LIKE로 탐색 (최신순 10건 + COUNT)
+     */
+    @Benchmark
+    public Page<?> likeQuery() {
+        String pattern = "%" + keyword + "%";
+        PageRequest pageable = PageRequest.of(0, 10);
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            List<NoticeListResponseDto> content = entityManager
+                    .createQuery(NoticeRepository.LIST_ITEM_SELECT + LIKE_CONDITION + " ORDER BY n.createdAt DESC", NoticeListResponseDto.class)
+                    .setParameter("today", today)
+                    .setParameter("pattern", pattern)
+                    .setMaxResults(pageable.getPageSize())
+                    .getResultList();
+            long total = entityManager.createQuery("SELECT COUNT(n) FROM Notice n " + LIKE_CONDITION, Long.class)
+                    .setParameter("today", today)
+                    .setParameter("pattern", pattern)
+                    .getSingleResult();
+            return new PageImpl<>(content, pageable, total);
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public Page<?> latest() {
+        return noticeRepository.searchNotices(SearchType.TITLE_CONTENT, keyword, null, null, today,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+    }
+
+    @Benchmark
+    public Page<?> ranked() {
+        return noticeRepository.searchNotices(SearchType.TITLE_CONTENT, keyword, null, null, today,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "score")));
+    }
+}
@@ -0,0 +1,78 @@
+package com.rsupport.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.entity.Attachment;
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공지사항 목록 응답 변환: 엔티티 -> NoticeListResponseDto 매핑과 Page<NoticeListResponseDto> JSON 직렬화
+ * ObjectMapper는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder로 생성
+ * ./gradlew jmh -Pjmh.includes=NoticeSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class NoticeSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Notice> notices;
+    private Page<NoticeListResponseDto> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User author = new User(1L, "admin");
+        LocalDateTime now = LocalDateTime.now();
+        notices = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            Notice notice = Notice.builder()
+                    .id(id)
+                    .title("서버 점검 안내 " + id)
+                    .content("서버 점검으로 서비스 이용이 일시 중단될 예정입니다.")
+                    .startAt(now.minusDays(1))
+                    .endAt(now.plusDays(1))
+                    .createdAt(now.minusMinutes(id))
+                    .viewCount((int) id * 10)
+                    .author(author)
+                    .attachments(new ArrayList<>())
+                    .build();
+            if (id % 2 == 0) {
+                notice.getAttachments().add(Attachment.builder()
+                        .id(id)
+                        .fileName("attachment-" + id + ".pdf")
+                        .fileUrl("uploads/attachment-" + id + ".pdf")
+                        .notice(notice)
+                        .build());
+            }
+            notices.add(notice);
+        }
+        page = toDto();
+    }
+
+    @Benchmark
+    public Page<NoticeListResponseDto> toDto() {
+        return new PageImpl<>(notices.stream().map(NoticeListResponseDto::new).toList(),
+                PageRequest.of(0, pageSize), 100_000);
+    }
+
+    @Benchmark
+    public byte[] toJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,73 @@
+package com.rsupport.api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 스레드 비교: Tomcat 플랫폼 스레드(platform) vs 가상 스레드 + DB 세마포어(virtual)
+ * 동시 클라이언트 256개가 HTTP로 상세 조회(Redis 조회수 증가)와 검색 목록 조회(DB)를 19:1로 요청하며,
+ * SampleTime 모드의 p0.99 값으로 꼬리 지연을 비교 (Tomcat 스레드는 동시 클라이언트보다 적은 64개)
+ * 로컬 Redis(localhost:6379)가 필요하며 15번 DB를 사용하고 종료 시 비움
+ * ./gradlew jmh -Pjmh.includes=RequestThreadModeBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(256)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class RequestThreadModeBenchmark {
+    private static final int SEARCH_EVERY = 20;
+    private static final String KEYWORD = URLEncoder.encode(BenchmarkDataSet.COMMON_KEYWORD, StandardCharsets.UTF_8);
+
+    @Param({"platform", "virtual"})
+    private String threadMode;
+
+    @Param({"100000"})
+    private int notices;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkDataSet.startWeb("thread-mode-benchmark-" + threadMode,
+                "spring.threads.virtual.enabled=" + "virtual".equals(threadMode),
+                "server.tomcat.threads.max=64");
+        BenchmarkDataSet.seed(context.getBean(JdbcTemplate.class), notices);
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/notices";
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        httpClient.close();
+        try (RedisConnection connection = context.getBean(RedisConnectionFactory.class).getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+        context.close();
+    }
+
+    @Benchmark
+    public int request() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextInt(SEARCH_EVERY) == 0
+                ? "?searchType=TITLE_CONTENT&keyword=" + KEYWORD + "&page=" + random.nextInt(50)
+                : "/" + random.nextLong(1, notices + 1);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
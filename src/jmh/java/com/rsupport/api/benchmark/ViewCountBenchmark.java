@@ -0,0 +1,65 @@
+package com.rsupport.api.benchmark;
+
+import com.rsupport.api.service.LocalViewCountAccumulator;
+import com.rsupport.api.service.RedisViewCountAccumulator;
+import com.rsupport.api.service.ViewCountAccumulator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회수 누적 방식 비교: 조회마다 Redis 파이프라인(redis) vs 노드 메모리 누적(local)
+ * 동시 조회 64 스레드, 로컬 Redis(localhost:6379)의 15번 DB를 사용하며 종료 시 비움
+ * ./gradlew jmh -Pjmh.includes=ViewCountBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(64)
+@Fork(1)
+public class ViewCountBenchmark {
+    private static final int BENCHMARK_DATABASE = 15;
+
+    @Param({"redis", "local"})
+    private String mode;
+
+    @Param({"1000"})
+    private int notices;
+
+    private LettuceConnectionFactory connectionFactory;
+    private ViewCountAccumulator accumulator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration("localhost", 6379);
+        configuration.setDatabase(BENCHMARK_DATABASE);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        accumulator = "redis".equals(mode)
+                ? new RedisViewCountAccumulator(redisTemplate)
+                : new LocalViewCountAccumulator(redisTemplate, null, "redis");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (accumulator instanceof LocalViewCountAccumulator local) {
+            local.drain();
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void increment() {
+        accumulator.increment(ThreadLocalRandom.current().nextLong(notices) + 1);
+    }
+}
@@ -0,0 +1,359 @@
+package com.rsupport.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rsupport.api.dto.ActiveNoticeDto;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeListVersionDto;
+import com.rsupport.api.event.NoticeActivationEvent;
+import com.rsupport.api.event.NoticeChangeType;
+import com.rsupport.api.event.NoticeChangedEvent;
+import com.rsupport.api.event.NoticesImportedEvent;
+import com.rsupport.api.event.ViewCountsFlushedEvent;
+import com.rsupport.api.repository.NoticeRepository;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시 중인 공지사항 목록 (검색 조건이 없는 목록 조회를 DB 조회 없이 메모리에서 응답)
+ * 게시 중인 공지는 작성일 내림차순 skip-list에 두고, 게시 시작/종료 시각에 timer wheel로 추가/제거
+ * 공지사항 등록/수정/삭제(다른 노드 포함)와 조회수 DB 반영 이벤트로 갱신하며, 누락에 대비해 주기적으로 DB에서 다시 적재
+ * DB 조회(재적재, 변경 이벤트)는 락 밖에서 하므로, 늦게 도착한 이전 버전이 최신 버전을 덮어쓰지 않도록 최근 반영한 버전과 비교
+ * 락은 메모리 상태 변경에만 사용하여 timer 스레드와 이벤트 처리가 JDBC 조회를 기다리지 않도록 함
+ * 게시 중인 공지 수, 최대 수정 시각, 조회수 합계는 추가/제거 시 락 안에서 갱신하므로 조회는 요청한 페이지까지만 순회
+ * 예약한 게시 시작/종료 시각이 되면 NoticeActivationEvent를 발행
+ */
+@Slf4j
+@Component
+public class ActiveNoticeRegistry {
+    private static final String SORT_PROPERTY = "createdAt";
+    private static final Comparator<Key> NEWEST_FIRST =
+            Comparator.comparing(Key::createdAt).thenComparingLong(Key::id).reversed();
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final ConcurrentSkipListMap<Key, ActiveNoticeDto> active = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final Map<Long, Tracked> tracked = new HashMap<>(); // 게시 예정 + 게시 중, lock으로 동기화
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock reloadLock = new ReentrantLock(); // 재적재끼리는 순서대로 (이전 스냅샷이 나중에 반영되지 않도록)
+    private final TreeMap<LocalDateTime, Integer> activeUpdatedAts = new TreeMap<>(); // 게시 중인 공지의 수정 시각별 건수, lock으로 동기화
+    private long activeCount; // lock으로 동기화
+    private long activeViewCount; // lock으로 동기화
+    private volatile NoticeListVersionDto version = new NoticeListVersionDto(0L, null, null); // 게시 중인 공지 집계, lock 안에서 교체
+    // 변경 이벤트로 최근 반영한 버전 (삭제는 DELETED), 종료되어 tracked에 없는 공지의 역전도 막기 위해 따로 보관
+    private final Cache<Long, Long> appliedVersions = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    private final NoticeRepository noticeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Timer timer;
+    private volatile boolean ready;
+
+    public ActiveNoticeRegistry(NoticeRepository noticeRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${notice.active-registry.enabled:true}") boolean enabled,
+                                @Value("${notice.active-registry.tick:100ms}") Duration tick) {
+        this.noticeRepository = noticeRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.timer = new HashedWheelTimer(new DefaultThreadFactory("active-notice-timer", true),
+                tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 메모리에서 응답할 수 있는 요청인지 확인 (적재 완료, 작성일 정렬만 지원)
+     */
+    public boolean supports(Pageable pageable) {
+        return ready && pageable.isPaged()
+                && pageable.getSort().stream().allMatch(order -> SORT_PROPERTY.equals(order.getProperty()));
+    }
+
+    /**
+     * 요청한 페이지까지만 순회하고, 전체 건수는 추가/제거 시 갱신한 게시 중인 공지 수를 사용
+     * 종료 시각이 지난 공지는 종료 타이머가 제거할 때 목록과 전체 건수에서 함께 빠짐 (최대 tick만큼 늦음)
+     */
+    public Page<NoticeListResponseDto> getPage(Pageable pageable) {
+        long total = version.getCount();
+        Sort.Order order = pageable.getSort().getOrderFor(SORT_PROPERTY);
+        Collection<ActiveNoticeDto> notices = order != null && order.isAscending()
+                ? active.descendingMap().values()
+                : active.values();
+
+        List<NoticeListResponseDto> content = new ArrayList<>(pageable.getPageSize());
+        long skipped = 0;
+        for (ActiveNoticeDto notice : notices) {
+            if (content.size() == pageable.getPageSize()) break;
+            if (skipped++ < pageable.getOffset()) continue;
+
+            content.add(notice.toListItem());
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 조건부 조회용 집계 버전 (목록과 같은 상태에서 갱신하므로 DB 집계 쿼리 없이 응답한 목록의 ETag로 사용)
+     */
+    public NoticeListVersionDto getVersion() {
+        return version;
+    }
+
+    /**
+     * 게시 종료 전인 공지사항을 DB에서 다시 적재 (기동 직후 1회, 이후 주기적으로 실행)
+     */
+    @Scheduled(fixedDelayString = "${notice.active-registry.reload-interval-ms:300000}")
+    public void reload() {
+        if (!enabled) return;
+
+        reloadLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<ActiveNoticeDto> notices = noticeRepository.findUnexpiredNotices(now); // 락 밖에서 조회
+
+            lock.lock();
+            try {
+                Set<Long> noticeIds = new HashSet<>();
+                for (ActiveNoticeDto notice : notices) {
+                    noticeIds.add(notice.getId());
+                    if (!isStale(notice)) { // 조회 이후 수정/삭제된 공지
+                        track(notice, now);
+                    }
+                }
+                Set.copyOf(tracked.keySet()).stream()
+                        .filter(noticeId -> !noticeIds.contains(noticeId))
+                        .filter(noticeId -> !isTrackedByChange(noticeId)) // 조회 이후 등록된 공지
+                        .forEach(this::untrack);
+                ready = true;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 공지사항 변경 반영 (로컬 변경은 커밋 이후, 다른 노드의 변경은 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticeChanged(NoticeChangedEvent event) {
+        if (!enabled) return; // 첫 적재 전이어도 반영 (적재 결과보다 최신이면 적재 시 유지됨)
+
+        Long noticeId = event.getNoticeId();
+        Optional<ActiveNoticeDto> notice = event.getType() == NoticeChangeType.DELETED
+                ? Optional.empty()
+                : noticeRepository.findActiveNoticeById(noticeId);
+        lock.lock();
+        try {
+            if (notice.isEmpty()) {
+                appliedVersions.put(noticeId, DELETED);
+                untrack(noticeId);
+                return;
+            }
+            ActiveNoticeDto found = notice.get();
+            if (isStale(found)) return; // 더 최신 버전이 이미 반영됨
+
+            appliedVersions.put(noticeId, found.getVersion());
+            track(found, LocalDateTime.now());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 일괄 등록은 공지마다 반영하지 않고 한 번 다시 적재 (다른 노드 포함)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNoticesImported(NoticesImportedEvent event) {
+        if (!ready) return;
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        lock.lock();
+        try {
+            event.getDeltas().forEach((noticeId, delta) -> {
+                Tracked entry = tracked.get(noticeId);
+                if (entry == null) return;
+                entry.notice = entry.notice.addViewCount(delta);
+                if (active.replace(Key.of(entry.notice), entry.notice) != null) {
+                    activeViewCount += delta;
+                }
+            });
+            updateVersion();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        timer.stop();
+    }
+
+    /**
+     * 이미 반영한 버전보다 오래된 조회 결과인지 확인 (삭제된 공지는 항상 오래된 것으로 취급)
+     */
+    private boolean isStale(ActiveNoticeDto notice) {
+        Long applied = appliedVersions.getIfPresent(notice.getId());
+        if (applied != null && applied > notice.getVersion()) return true;
+
+        Tracked entry = tracked.get(notice.getId());
+        return entry != null && entry.notice.getVersion() > notice.getVersion();
+    }
+
+    private boolean isTrackedByChange(Long noticeId) {
+        Long applied = appliedVersions.getIfPresent(noticeId);
+        return applied != null && applied != DELETED;
+    }
+
+    /**
+     * 게시 기간에 따라 바로 추가하거나 게시 시작 시각에 추가되도록 예약
+     */
+    private void track(ActiveNoticeDto notice, LocalDateTime now) {
+        untrack(notice.getId());
+        if (notice.getEndAt().isBefore(now)) return;
+
+        Tracked entry = new Tracked(notice);
+        tracked.put(notice.getId(), entry);
+        if (notice.getStartAt().isAfter(now)) {
+            entry.timeout = schedule(notice.getStartAt(), () -> {
+                if (activate(entry)) {
+                    eventPublisher.publishEvent(new NoticeActivationEvent(notice.getId(), true, notice.getStartAt()));
+                }
+            });
+        } else {
+            activate(entry);
+        }
+    }
+
+    /**
+     * @return 추가했으면 true (그 사이 변경/삭제되었으면 false)
+     */
+    private boolean activate(Tracked entry) {
+        lock.lock();
+        try {
+            if (tracked.get(entry.notice.getId()) != entry) return false; // 그 사이 변경/삭제됨
+
+            ActiveNoticeDto notice = entry.notice;
+            addActive(notice);
+            entry.timeout = schedule(notice.getEndAt(), () -> {
+                if (expire(entry)) {
+                    eventPublisher.publishEvent(new NoticeActivationEvent(notice.getId(), false, notice.getEndAt()));
+                }
+            });
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean expire(Tracked entry) {
+        lock.lock();
+        try {
+            if (tracked.get(entry.notice.getId()) != entry) return false;
+            untrack(entry.notice.getId());
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void untrack(Long noticeId) {
+        Tracked entry = tracked.remove(noticeId);
+        if (entry == null) return;
+
+        if (entry.timeout != null) {
+            entry.timeout.cancel();
+        }
+        ActiveNoticeDto removed = active.remove(Key.of(entry.notice));
+        if (removed != null) {
+            removeActive(removed);
+        }
+    }
+
+    /**
+     * 목록에 추가하고 집계 갱신 (lock 안에서 호출)
+     */
+    private void addActive(ActiveNoticeDto notice) {
+        ActiveNoticeDto previous = active.put(Key.of(notice), notice);
+        if (previous != null) {
+            removeActive(previous);
+        }
+        activeUpdatedAts.merge(notice.getUpdatedAt(), 1, Integer::sum);
+        activeCount++;
+        activeViewCount += notice.getViewCount();
+        updateVersion();
+    }
+
+    /**
+     * 목록에서 제거한 공지를 집계에서 빼기 (lock 안에서 호출)
+     */
+    private void removeActive(ActiveNoticeDto notice) {
+        activeUpdatedAts.computeIfPresent(notice.getUpdatedAt(), (updatedAt, count) -> count == 1 ? null : count - 1);
+        activeCount--;
+        activeViewCount -= notice.getViewCount();
+        updateVersion();
+    }
+
+    private void updateVersion() {
+        version = new NoticeListVersionDto(activeCount, activeUpdatedAts.isEmpty() ? null : activeUpdatedAts.lastKey(),
+                activeCount == 0 ? null : activeViewCount);
+    }
+
+    private Timeout schedule(LocalDateTime at, Runnable task) {
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), at).toMillis());
+        return timer.newTimeout(timeout -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("게시 중인 공지 목록 갱신 실패", e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private record Key(LocalDateTime createdAt, long id) {
+        static Key of(ActiveNoticeDto notice) {
+            return new Key(notice.getCreatedAt(), notice.getId());
+        }
+    }
+
+    private static final class Tracked {
+        private ActiveNoticeDto notice;
+        private Timeout timeout;
+
+        private Tracked(ActiveNoticeDto notice) {
+            this.notice = notice;
+        }
+    }
+}
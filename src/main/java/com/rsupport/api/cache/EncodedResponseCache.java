@@ -0,0 +1,149 @@
+package com.rsupport.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rsupport.api.dto.enums.SearchType;
+import com.rsupport.api.event.NoticeChangedEvent;
+import com.rsupport.api.event.NoticesImportedEvent;
+import com.rsupport.api.event.ViewCountsFlushedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 인코딩된 응답 본문 캐시 (공지사항 상세, 검색 조건이 없는 목록의 앞쪽 페이지)
+ * JSON 직렬화 결과와 gzip 압축본을 byte[]로 보관하여 캐시 적중 시 직렬화/압축 없이 그대로 응답
+ * 공지사항 등록/수정/삭제/일괄 등록(다른 노드 포함) 이벤트로 비우고, 목록은 조회수 DB 반영 시에도 비움
+ */
+@Component
+public class EncodedResponseCache {
+    private static final String SORT_PROPERTY = "createdAt";
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MIN_GZIP_SAVING = 64; // 압축해도 이보다 적게 줄면 원본만 응답
+
+    private final Cache<Long, EncodedResponse> details;
+    private final Cache<ListKey, EncodedResponse> lists;
+    private final ObjectMapper objectMapper;
+    private final int listPages;
+
+    public EncodedResponseCache(ObjectMapper objectMapper,
+                                @Value("${notice.cache.response.max-size:64MB}") DataSize maxSize,
+                                @Value("${notice.cache.response.detail-ttl:30s}") Duration detailTtl,
+                                @Value("${notice.cache.response.list-ttl:5s}") Duration listTtl,
+                                @Value("${notice.cache.response.list-pages:3}") int listPages) {
+        this.details = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long id, EncodedResponse response) -> response.size())
+                .expireAfterWrite(detailTtl)
+                .build();
+        this.lists = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((ListKey key, EncodedResponse response) -> response.size())
+                .expireAfterWrite(listTtl)
+                .build();
+        this.objectMapper = objectMapper;
+        this.listPages = listPages;
+    }
+
+    public Optional<EncodedResponse> getDetail(Long noticeId) {
+        return Optional.ofNullable(details.getIfPresent(noticeId));
+    }
+
+    public EncodedResponse putDetail(Long noticeId, Object body, String eTag, long lastModified) {
+        EncodedResponse response = encode(body, eTag, lastModified);
+        details.put(noticeId, response);
+        return response;
+    }
+
+    /**
+     * 캐시할 수 있는 목록 요청인지 확인 (검색 조건 없음, 작성일 정렬, 앞쪽 페이지)
+     */
+    public boolean supportsList(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return searchType == null && keyword == null && from == null && to == null
+                && pageable.getPageNumber() < listPages && pageable.getPageSize() <= MAX_PAGE_SIZE
+                && pageable.getSort().stream().allMatch(order -> SORT_PROPERTY.equals(order.getProperty()));
+    }
+
+    /**
+     * @param eTag 현재 목록 집계 ETag (다르면 이벤트 없이 변경된 것이므로 캐시를 사용하지 않음)
+     */
+    public Optional<EncodedResponse> getList(Pageable pageable, String eTag) {
+        return Optional.ofNullable(lists.getIfPresent(ListKey.of(pageable)))
+                .filter(response -> response.eTag().equals(eTag));
+    }
+
+    public EncodedResponse putList(Pageable pageable, Object body, String eTag, long lastModified) {
+        EncodedResponse response = encode(body, eTag, lastModified);
+        lists.put(ListKey.of(pageable), response);
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(NoticeChangedEvent event) {
+        details.invalidate(event.getNoticeId());
+        lists.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(NoticesImportedEvent event) {
+        lists.invalidateAll(); // 새로 등록된 공지는 상세 캐시에 없음
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(ViewCountsFlushedEvent event) {
+        lists.invalidateAll(); // 상세는 상세 캐시(NoticeDetailCache)의 조회수를 그대로 사용하므로 유지
+    }
+
+    private EncodedResponse encode(Object body, String eTag, long lastModified) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            byte[] gzip = gzip(identity);
+            return new EncodedResponse(identity, gzip.length + MIN_GZIP_SAVING <= identity.length ? gzip : null, eTag, lastModified);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 본문을 JSON으로 변환하지 못했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param identity 인코딩하지 않은 JSON
+     * @param gzip gzip 압축본 (압축 효과가 없으면 null)
+     * @param eTag 응답 ETag (인코딩 구분 없음)
+     * @param lastModified Last-Modified (epoch millis, 없으면 -1)
+     */
+    public record EncodedResponse(byte[] identity, byte[] gzip, String eTag, long lastModified) {
+        int size() {
+            return identity.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    private record ListKey(int page, int size, Sort.Direction direction) {
+        static ListKey of(Pageable pageable) {
+            Sort.Order order = pageable.getSort().getOrderFor(SORT_PROPERTY);
+            return new ListKey(pageable.getPageNumber(), pageable.getPageSize(),
+                    order == null ? Sort.Direction.DESC : order.getDirection());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.rsupport.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rsupport.api.dto.NoticeDetailResponseDto;
+import com.rsupport.api.event.NoticeChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공지사항 상세 2단 캐시
+ * 1단: 노드 로컬 캐시 (크기/TTL 제한), 2단: 노드 간 공유되는 Redis 캐시 (직렬화된 NoticeDetailResponseDto)
+ * 공지사항이 수정/삭제되면 커밋 이후 두 캐시를 모두 비우고, 다른 노드는 전파된 이벤트로 로컬 캐시를 비움
+ * 무효화 이전에 DB에서 읽은 내용이 무효화 이후에 저장되지 않도록, 로컬 캐시는 무효화 세대(generation)를, 공유 캐시는 무효화 표식(tombstone)과 버전을 확인
+ */
+@Slf4j
+@Component
+public class NoticeDetailCache {
+    private static final String KEY_PREFIX = "notice:detail:";
+    private static final String EVICTED_KEY_PREFIX = "notice:detail:evicted:";
+
+    /**
+     * 무효화 표식이 없고, 저장된 값보다 버전이 낮지 않을 때만 저장
+     * KEYS[1]: 상세 캐시 키, KEYS[2]: 무효화 표식 키, ARGV: JSON, 버전, TTL(ms)
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                local version = cjson.decode(current)['version']
+                if type(version) == 'number' and version > tonumber(ARGV[2]) then return 0 end
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final Cache<Long, NoticeDetailResponseDto> localCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration sharedTtl;
+    private final Duration evictGuard;
+    private final AtomicLong generation = new AtomicLong(); // 로컬 캐시 무효화 횟수
+
+    public NoticeDetailCache(StringRedisTemplate redisTemplate,
+                             ObjectMapper objectMapper,
+                             @Value("${notice.cache.detail.local-max-size:10000}") long localMaxSize,
+                             @Value("${notice.cache.detail.local-ttl:30s}") Duration localTtl,
+                             @Value("${notice.cache.detail.shared-ttl:10m}") Duration sharedTtl,
+                             @Value("${notice.cache.detail.evict-guard:5s}") Duration evictGuard) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.sharedTtl = sharedTtl;
+        this.evictGuard = evictGuard;
+    }
+
+    public Optional<NoticeDetailResponseDto> get(Long noticeId) {
+        if (noticeId == null) return Optional.empty();
+
+        NoticeDetailResponseDto notice = localCache.getIfPresent(noticeId);
+        if (notice != null) return Optional.of(notice);
+
+        Optional<NoticeDetailResponseDto> shared = getShared(noticeId);
+        shared.ifPresent(cached -> localCache.put(noticeId, cached));
+        return shared;
+    }
+
+    /**
+     * DB 조회를 시작하기 전에 확인하는 무효화 세대 (put에 그대로 전달)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * DB에서 읽은 상세를 캐시에 저장
+     * 조회를 시작한 뒤 무효화가 있었으면(다른 공지 포함) 로컬 캐시에 저장하지 않고, 공유 캐시는 무효화 표식이 남아 있거나 더 최신 버전이 있으면 저장하지 않음
+     * @param generation 조회 시작 전 generation() 값
+     */
+    public void put(NoticeDetailResponseDto notice, long generation) {
+        boolean stored = true;
+        try {
+            Long result = redisTemplate.execute(PUT_SCRIPT, List.of(KEY_PREFIX + notice.getId(), EVICTED_KEY_PREFIX + notice.getId()),
+                    objectMapper.writeValueAsString(notice), String.valueOf(notice.getVersion()), String.valueOf(sharedTtl.toMillis()));
+            stored = result != null && result == 1L;
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("공지사항 상세 캐시 저장 실패: noticeId={}", notice.getId(), e);
+        }
+        if (stored && this.generation.get() == generation) {
+            localCache.put(notice.getId(), notice);
+        }
+    }
+
+    /**
+     * 공지사항 변경 시 캐시 무효화
+     * 로컬 변경은 커밋 이후 공유 캐시까지 비우고, 다른 노드의 변경은 로컬 캐시만 비움
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE) // 다른 노드로 전파되기 전에 공유 캐시를 먼저 비움
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(NoticeChangedEvent event) {
+        generation.incrementAndGet();
+        localCache.invalidate(event.getNoticeId());
+        if (event.isRemote()) return;
+
+        try {
+            // 무효화 이전에 읽은 내용이 뒤늦게 저장되지 않도록 잠시 표식을 남김
+            redisTemplate.opsForValue().set(EVICTED_KEY_PREFIX + event.getNoticeId(), "1", evictGuard);
+            redisTemplate.delete(KEY_PREFIX + event.getNoticeId());
+        } catch (DataAccessException e) {
+            log.warn("공지사항 상세 캐시 삭제 실패: noticeId={}", event.getNoticeId(), e);
+        }
+    }
+
+    private Optional<NoticeDetailResponseDto> getShared(Long noticeId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + noticeId);
+            return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, NoticeDetailResponseDto.class));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("공지사항 상세 캐시 조회 실패: noticeId={}", noticeId, e);
+            return Optional.empty();
+        }
+    }
+}
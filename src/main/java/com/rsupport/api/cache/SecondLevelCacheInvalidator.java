@@ -0,0 +1,52 @@
+package com.rsupport.api.cache;
+
+import com.rsupport.api.entity.CacheRegions;
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.event.NoticeChangedEvent;
+import com.rsupport.api.event.NoticesImportedEvent;
+import com.rsupport.api.event.ViewCountsFlushedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hibernate를 거치지 않은 변경에 대한 2차 캐시/쿼리 캐시 무효화
+ * Hibernate로 저장한 로컬 변경은 Hibernate가 직접 캐시를 갱신하므로,
+ * 다른 노드에서 전파된 공지사항 변경과 JDBC로 반영한 조회수만 처리
+ */
+@Component
+public class SecondLevelCacheInvalidator {
+    private static final String NOTICE_ATTACHMENTS_ROLE = Notice.class.getName() + ".attachments";
+
+    private final Cache cache;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(NoticeChangedEvent event) {
+        if (!event.isRemote()) return;
+
+        cache.evictEntityData(Notice.class, event.getNoticeId());
+        cache.evictCollectionData(NOTICE_ATTACHMENTS_ROLE, event.getNoticeId());
+        cache.evictQueryRegion(CacheRegions.NOTICE_LIST_QUERY);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(NoticesImportedEvent event) {
+        if (!event.isRemote()) return;
+
+        cache.evictQueryRegion(CacheRegions.NOTICE_LIST_QUERY);
+    }
+
+    /**
+     * 조회수 반영마다 쿼리 캐시를 비우면 조회가 많을수록 목록 캐시가 유지되지 않으므로,
+     * 목록의 조회수는 쿼리 캐시 TTL만큼 늦게 반영되는 것을 허용하고 엔티티만 비움
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(ViewCountsFlushedEvent event) {
+        event.getDeltas().keySet().forEach(noticeId -> cache.evictEntityData(Notice.class, noticeId));
+    }
+}
@@ -0,0 +1,34 @@
+package com.rsupport.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서 DB 접근을 커넥션 풀 크기의 공정 세마포어로 제한
+ * notice.datasource.max-permits를 설정하면 풀 크기보다 작게 제한할 수 있음 (풀마다 적용, 다른 용도로 커넥션을 남겨 둘 때)
+ * 플랫폼 스레드 모드에서는 Tomcat 스레드 수가 동시 요청을 제한하므로 적용하지 않음
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabasePermitConfig {
+
+    @Bean
+    static BeanPostProcessor databasePermitPostProcessor(Environment environment) {
+        int maxPermits = environment.getProperty("notice.datasource.max-permits", Integer.class, Integer.MAX_VALUE);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int permits = Math.min(dataSource.getMaximumPoolSize(), maxPermits);
+                    return new PermitDataSource(dataSource, permits, dataSource.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.rsupport.api.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * 요청당 쿼리 수를 세는 StatementInspector 등록 (이미 설정된 inspector는 감싸서 유지)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                new QueryCountInspector(properties.get(AvailableSettings.STATEMENT_INSPECTOR)));
+    }
+}
@@ -0,0 +1,52 @@
+package com.rsupport.api.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 요청 스레드에서 Hibernate가 준비(prepare)한 SQL 수를 셈 (JDBC 배치는 한 번으로 셈)
+ * 설정에 다른 StatementInspector가 있으면 이어서 호출
+ */
+class QueryCountInspector implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private final StatementInspector delegate;
+
+    QueryCountInspector(Object delegate) {
+        this.delegate = toInspector(delegate);
+    }
+
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * @return start 이후 실행된 SQL 수
+     */
+    static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return delegate == null ? sql : delegate.inspect(sql);
+    }
+
+    /**
+     * hibernate.session_factory.statement_inspector 값(인스턴스, 클래스, 클래스 이름)을 인스턴스로 변환
+     */
+    private static StatementInspector toInspector(Object value) {
+        if (value == null) return null;
+        if (value instanceof StatementInspector inspector) return inspector;
+
+        Class<?> type = value instanceof Class<?> clazz ? clazz : ClassUtils.resolveClassName(value.toString(), null);
+        return (StatementInspector) BeanUtils.instantiateClass(type);
+    }
+}
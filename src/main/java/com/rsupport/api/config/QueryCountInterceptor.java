@@ -0,0 +1,48 @@
+package com.rsupport.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Objects;
+
+/**
+ * 요청마다 실행한 DB 쿼리 수를 URI 패턴별로 기록 (N+1 등 쿼리 수 증가 감지)
+ * 비동기 응답(StreamingResponseBody)을 쓰는 스레드의 쿼리는 세지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements AsyncHandlerInterceptor {
+    private static final String METRIC_NAME = "notice.http.db.queries";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountInspector.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCountInspector.stop();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int count = QueryCountInspector.stop();
+        String uri = Objects.toString(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), "UNKNOWN");
+        DistributionSummary.builder(METRIC_NAME)
+                .baseUnit("queries")
+                .description("요청당 실행한 DB 쿼리 수")
+                .tags("method", request.getMethod(), "uri", uri)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50)
+                .register(meterRegistry)
+                .record(count);
+    }
+}
@@ -1,12 +1,18 @@
 package com.rsupport.api.config;
 
+import com.rsupport.api.event.NoticeChangeBroadcaster;
+import com.rsupport.api.stream.NoticeStreamHub;
+import com.rsupport.api.stream.NoticeStreamPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 /**
  * RedisConnectionFactory를 통해 Redis 서버와 연결을 설정하고, StringRedisTemplate을 Bean으로 등록
+ * 공지사항 변경 이벤트와 스트림(SSE) 이벤트를 노드 간에 주고받기 위한 pub/sub 리스너 컨테이너도 함께 등록
  */
 @Configuration
 public class RedisConfig {
@@ -14,4 +20,18 @@ public class RedisConfig {
     public StringRedisTemplate redisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
+
+    /**
+     * 노드 간 공지사항 변경 이벤트, 스트림 이벤트 수신용 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       NoticeChangeBroadcaster noticeChangeBroadcaster,
+                                                                       NoticeStreamHub noticeStreamHub) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(noticeChangeBroadcaster, new ChannelTopic(NoticeChangeBroadcaster.CHANNEL));
+        container.addMessageListener(noticeStreamHub, new ChannelTopic(NoticeStreamPublisher.CHANNEL));
+        return container;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.rsupport.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션을 replica DataSource로 보냄 (notice.datasource.replica.url을 설정한 경우)
+ * 트랜잭션이 시작될 때 커넥션을 바로 얻지 않고(LazyConnectionDataSourceProxy) 첫 SQL 실행 시점에
+ * 읽기 전용 여부(Connection.setReadOnly)에 따라 primary 또는 replica 풀에서 커넥션을 빌림
+ * primary는 spring.datasource.*, replica는 notice.datasource.replica.* 설정으로 각자 Hikari 풀 크기를 가짐
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "notice.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Value("${notice.datasource.replica.url}") String url,
+                                              @Value("${notice.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${notice.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                              @Value("${notice.datasource.replica.maximum-pool-size:8}") int maximumPoolSize,
+                                              @Value("${notice.datasource.replica.minimum-idle:2}") int minimumIdle) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(minimumIdle);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * 애플리케이션(JPA, JdbcTemplate, SQL 초기화)이 사용하는 DataSource
+     * 가상 스레드 모드에서는 primary/replica 풀이 각각 세마포어로 감싸져 주입됨 (DatabasePermitConfig)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
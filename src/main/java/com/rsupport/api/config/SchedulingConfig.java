@@ -3,6 +3,9 @@ package com.rsupport.api.config;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+/**
+ * spring.threads.virtual.enabled=true이면 @Scheduled 작업도 가상 스레드(SimpleAsyncTaskScheduler)에서 실행됨
+ */
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
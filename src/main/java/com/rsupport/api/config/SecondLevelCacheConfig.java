@@ -0,0 +1,60 @@
+package com.rsupport.api.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.rsupport.api.entity.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 (JCache + Caffeine, 노드 로컬)
+ * 영역을 미리 만들어 크기와 TTL을 지정하고, 설정되지 않은 영역은 사용하지 않도록 함 (missing_cache_strategy=fail)
+ * 다른 노드의 변경은 SecondLevelCacheInvalidator가 전파된 이벤트로 비우고, 남은 오차는 TTL로 제한
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+    private static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${notice.cache.entity.max-size:10000}") long entityMaxSize,
+                                              @Value("${notice.cache.entity.ttl:10m}") Duration entityTtl,
+                                              @Value("${notice.cache.query.max-size:1000}") long queryMaxSize,
+                                              @Value("${notice.cache.query.ttl:30s}") Duration queryTtl) {
+        // 컨텍스트마다 별도의 CacheManager를 사용 (같은 JVM의 다른 컨텍스트와 영역을 공유하지 않음)
+        CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+        cacheManager.createCache(CacheRegions.USER, region(entityMaxSize, entityTtl));
+        cacheManager.createCache(CacheRegions.NOTICE, region(entityMaxSize, entityTtl));
+        cacheManager.createCache(CacheRegions.NOTICE_ATTACHMENTS, region(entityMaxSize, entityTtl));
+        cacheManager.createCache(CacheRegions.ATTACHMENT, region(entityMaxSize, entityTtl));
+        cacheManager.createCache(CacheRegions.NOTICE_LIST_QUERY, region(queryMaxSize, queryTtl));
+        cacheManager.createCache(DEFAULT_QUERY_RESULTS_REGION, region(queryMaxSize, queryTtl));
+        // 테이블별 마지막 변경 시각, 만료되면 쿼리 캐시가 변경을 놓칠 수 있으므로 제한하지 않음 (테이블 수만큼만 저장)
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, region(OptionalLong.empty(), OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        return region(OptionalLong.of(maxSize), OptionalLong.of(ttl.toNanos()));
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(OptionalLong maxSize, OptionalLong ttlNanos) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxSize);
+        configuration.setExpireAfterWrite(ttlNanos);
+        configuration.setStoreByValue(false); // Hibernate 캐시 항목은 불변이므로 직렬화 복사를 생략
+        return configuration;
+    }
+}
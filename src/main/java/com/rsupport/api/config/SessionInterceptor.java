@@ -5,16 +5,31 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.util.Set;
+
+/**
+ * 세션 모드(notice.identity.mode=session)에서 사용자 세션 생성
+ * 조회 요청(GET/HEAD/OPTIONS)은 사용자 정보를 쓰지 않으므로 세션을 만들지 않음
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "notice.identity.mode", havingValue = "session", matchIfMissing = true)
 public class SessionInterceptor implements HandlerInterceptor {
+    private static final Set<String> READ_ONLY_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (READ_ONLY_METHODS.contains(request.getMethod())) {
+            return true;
+        }
+
         HttpSession session = request.getSession();
         if (session.getAttribute("userId") == null) {
             session.setAttribute("userId", 1L);
@@ -1,5 +1,6 @@
 package com.rsupport.api.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -7,16 +8,19 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    private final SessionInterceptor sessionInterceptor;
+    private final ObjectProvider<SessionInterceptor> sessionInterceptor; // 토큰 모드에서는 등록하지 않음
+    private final QueryCountInterceptor queryCountInterceptor;
 
-    public WebConfig(SessionInterceptor sessionInterceptor) {
+    public WebConfig(ObjectProvider<SessionInterceptor> sessionInterceptor, QueryCountInterceptor queryCountInterceptor) {
         this.sessionInterceptor = sessionInterceptor;
+        this.queryCountInterceptor = queryCountInterceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(sessionInterceptor)
-                .addPathPatterns("/**"); // 모든 경로에 적용
+        sessionInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/**")); // 모든 경로에 적용
+        registry.addInterceptor(queryCountInterceptor)
+                .addPathPatterns("/**");
     }
 }
-
@@ -0,0 +1,140 @@
+package com.rsupport.api.controller;
+
+import com.rsupport.api.dto.AttachmentFileDto;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 첨부파일 응답 작성
+ * ETag/If-None-Match 재검증과 단일 Range 요청(이어받기, 분할 다운로드)을 지원
+ * Tomcat sendfile을 사용할 수 있으면 파일 전송을 커넥터에 맡겨 커널에서 바로 소켓으로 보내고(zero-copy),
+ * 아니면 응답 스트림으로 복사 (고정 크기 버퍼를 거치므로 zero-copy는 아니지만 파일 전체를 힙에 올리지 않음)
+ */
+@Component
+class AttachmentFileWriter {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    void write(AttachmentFileDto attachment, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path path = Paths.get(attachment.getPath());
+        if (!Files.isReadable(path)) {
+            throw new EntityNotFoundException("첨부파일을 찾을 수 없습니다.");
+        }
+
+        long length = Files.size(path);
+        String etag = etag(attachment, path, length);
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(MediaTypeFactory.getMediaType(attachment.getFileName())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(attachment.getFileName(), StandardCharsets.UTF_8).build().toString());
+
+        long start = 0;
+        long end = length - 1;
+        HttpRange range = parseRange(request.getHeader(HttpHeaders.RANGE));
+        if (range != null && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            start = range.getRangeStart(length);
+            end = range.getRangeEnd(length);
+            if (start >= length || start > end) { // 형식은 맞지만 파일 범위를 벗어난 요청
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        send(path, start, count, request, response);
+    }
+
+    /**
+     * 단일 구간 Range 헤더만 사용
+     * 형식이 잘못된 헤더와 여러 구간 요청은 Range가 없는 요청처럼 전체 파일로 응답 (RFC 9110)
+     */
+    private HttpRange parseRange(String header) {
+        if (header == null) return null;
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void send(Path path, long start, long count, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count); // end는 포함하지 않음
+            return;
+        }
+
+        // 응답 스트림은 파일 채널이 아니므로 transferTo도 내부 버퍼로 복사함
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) break;
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * 체크섬이 있으면 strong ETag, 체크섬이 없는 기존 첨부파일은 크기와 수정시각 기반 weak ETag
+     */
+    private String etag(AttachmentFileDto attachment, Path path, long length) throws IOException {
+        if (attachment.getChecksum() != null) {
+            return "\"" + attachment.getChecksum() + "\"";
+        }
+        return "W/\"" + length + "-" + Files.getLastModifiedTime(path).toMillis() + "\"";
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        String opaqueTag = etag.startsWith("W/") ? etag.substring(2) : etag;
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(opaqueTag));
+    }
+
+    /**
+     * If-Range가 없거나 현재 strong ETag와 같을 때만 Range 요청을 적용 (파일이 바뀌었으면 전체 전송)
+     */
+    private boolean ifRangeMatches(String ifRange, String etag) {
+        return ifRange == null || (!etag.startsWith("W/") && ifRange.trim().equals(etag));
+    }
+}
@@ -0,0 +1,80 @@
+package com.rsupport.api.controller;
+
+import com.rsupport.api.cache.EncodedResponseCache.EncodedResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Locale;
+
+/**
+ * 인코딩된 응답 본문 작성
+ * Accept-Encoding에 gzip이 있으면 압축본을, 없으면 원본을 byte[] 그대로 응답 (직렬화/압축 없음)
+ * 같은 내용이라도 인코딩마다 본문이 다르므로 gzip 응답의 ETag에는 "-gzip"을 붙임
+ */
+@Component
+class EncodedResponseWriter {
+    private static final String GZIP = "gzip";
+
+    /**
+     * @return 조건부 요청의 ETag/Last-Modified가 같으면 null (304, 헤더는 checkNotModified가 설정)
+     */
+    ResponseEntity<byte[]> write(EncodedResponse response, WebRequest request) {
+        boolean gzip = response.gzip() != null && acceptsGzip(request);
+        if (response.eTag() != null && request.checkNotModified(eTag(response.eTag(), gzip), response.lastModified())) {
+            return null;
+        }
+
+        byte[] body = gzip ? response.gzip() : response.identity();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * 인코딩된 본문 없이 버전만으로 조건부 요청 확인 (캐시에 없는 경우)
+     */
+    boolean checkNotModified(String eTag, long lastModified, WebRequest request) {
+        return request.checkNotModified(eTag(eTag, acceptsGzip(request)), lastModified);
+    }
+
+    boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    private static String eTag(String eTag, boolean gzip) {
+        return gzip ? eTag.substring(0, eTag.length() - 1) + "-" + GZIP + "\"" : eTag;
+    }
+
+    /**
+     * Accept-Encoding: gzip, deflate, br / gzip;q=0 (거부)
+     */
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) return false;
+
+        for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = coding.split(";");
+            if (!GZIP.equals(parts[0].trim())) continue;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
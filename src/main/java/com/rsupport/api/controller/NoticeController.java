@@ -1,33 +1,67 @@
 package com.rsupport.api.controller;
 
+import com.rsupport.api.cache.EncodedResponseCache;
+import com.rsupport.api.cache.EncodedResponseCache.EncodedResponse;
 import com.rsupport.api.dto.NoticeDetailResponseDto;
+import com.rsupport.api.dto.NoticeImportResultDto;
 import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeListVersionDto;
 import com.rsupport.api.dto.NoticeRequestDto;
+import com.rsupport.api.dto.NoticeSliceResponseDto;
+import com.rsupport.api.dto.NoticeVersionDto;
+import com.rsupport.api.dto.TrendingNoticeDto;
+import com.rsupport.api.dto.enums.DataFormat;
 import com.rsupport.api.dto.enums.SearchType;
+import com.rsupport.api.dto.enums.TrendingWindow;
 import com.rsupport.api.dto.validation.RegisterRequestValidationGroup;
+import com.rsupport.api.service.NoticeExportService;
+import com.rsupport.api.service.NoticeImportService;
 import com.rsupport.api.service.NoticeService;
+import com.rsupport.api.service.NoticeTrendingService;
+import com.rsupport.api.stream.NoticeStreamHub;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/notices")
 @RequiredArgsConstructor
 class NoticeController {
     private final NoticeService noticeService;
+    private final NoticeImportService noticeImportService;
+    private final NoticeExportService noticeExportService;
+    private final NoticeTrendingService noticeTrendingService;
+    private final NoticeStreamHub noticeStreamHub;
+    private final AttachmentFileWriter attachmentFileWriter;
+    private final EncodedResponseCache encodedResponseCache;
+    private final EncodedResponseWriter encodedResponseWriter;
 
     private static final int DEFAULT_PAGE = 0;
     private static final int DEFAULT_SIZE = 10;
     private static final String DEFAULT_SORT_FIELD = "createdAt";
+    private static final String DEFAULT_SEARCH_SORT_FIELD = "score";
 
     /**
      * 공지사할 목록 조회 API
@@ -37,30 +71,157 @@ class NoticeController {
      * @param to 조회종료일
      * @param page 페이지번호
      * @param size 페이지당 공지글 갯수
-     * @param sort 정렬값 조건
-     * @return ResponseEntity<Page<NoticeListResponseDto>>
+     * @param sort 정렬값 조건 (기본값: 검색어가 있으면 점수순, 없으면 작성일순)
+     * @param request 조건부 요청 헤더(If-None-Match, If-Modified-Since) 확인
+     * @return ResponseEntity<Page<NoticeListResponseDto>> 기본 목록의 앞쪽 페이지는 캐시된 JSON(identity/gzip), 집계 버전이 같으면 본문 없이 304
      */
     @GetMapping
-    public ResponseEntity<Page<NoticeListResponseDto>> getNotices(@RequestParam(required = false) SearchType searchType,
-                                                                  @RequestParam(required = false) String keyword,
-                                                                  @RequestParam(required = false) LocalDateTime from,
-                                                                  @RequestParam(required = false) LocalDateTime to,
-                                                                  @RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
-                                                                  @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
-                                                                  @RequestParam(defaultValue = DEFAULT_SORT_FIELD) String sort,
-                                                                  @RequestParam(defaultValue = "DESC") Sort.Direction sortDirection) {
+    public ResponseEntity<?> getNotices(@RequestParam(required = false) SearchType searchType,
+                                        @RequestParam(required = false) String keyword,
+                                        @RequestParam(required = false) LocalDateTime from,
+                                        @RequestParam(required = false) LocalDateTime to,
+                                        @RequestParam(defaultValue = "" + DEFAULT_PAGE) int page,
+                                        @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size,
+                                        @RequestParam(required = false) String sort,
+                                        @RequestParam(defaultValue = "DESC") Sort.Direction sortDirection,
+                                        WebRequest request) {
+        if (sort == null) {
+            sort = searchType != null && keyword != null ? DEFAULT_SEARCH_SORT_FIELD : DEFAULT_SORT_FIELD;
+        }
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
-        return ResponseEntity.ok(noticeService.getNotices(searchType, keyword, from, to, pageable));
+        if (!encodedResponseCache.supportsList(searchType, keyword, from, to, pageable)) {
+            // ETag/Last-Modified 헤더는 checkNotModified가 응답에 설정
+            Optional<NoticeListVersionDto> version = noticeService.getNoticesVersion(searchType, keyword, from, to, pageable);
+            if (version.isPresent() && request.checkNotModified(version.get().getETag(), version.get().getLastModified())) {
+                return null;
+            }
+            return ResponseEntity.ok(noticeService.getNotices(searchType, keyword, from, to, pageable));
+        }
+
+        // 기본 목록의 앞쪽 페이지는 인코딩된 본문을 캐시하여 직렬화/압축 없이 응답 (집계 ETag가 같을 때만 사용)
+        NoticeListVersionDto version = noticeService.getNoticesVersion(searchType, keyword, from, to, pageable).orElseThrow();
+        Optional<EncodedResponse> cached = encodedResponseCache.getList(pageable, version.getETag());
+        if (cached.isPresent()) {
+            return encodedResponseWriter.write(cached.get(), request);
+        }
+        if (encodedResponseWriter.isConditional(request)
+                && encodedResponseWriter.checkNotModified(version.getETag(), version.getLastModified(), request)) {
+            return null;
+        }
+        Page<NoticeListResponseDto> notices = noticeService.getNotices(searchType, keyword, from, to, pageable);
+        return encodedResponseWriter.write(
+                encodedResponseCache.putList(pageable, notices, version.getETag(), version.getLastModified()), request);
+    }
+
+    /**
+     * 공지사항 목록 커서 기반 조회 API (COUNT 쿼리 없이 작성일 역순으로 다음 페이지 조회)
+     * @param searchType 검색 타입
+     * @param keyword 검색어
+     * @param from 조회시작일
+     * @param to 조회종료일
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지당 공지글 갯수
+     * @return ResponseEntity<NoticeSliceResponseDto>
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<NoticeSliceResponseDto> getNoticesByCursor(@RequestParam(required = false) SearchType searchType,
+                                                                     @RequestParam(required = false) String keyword,
+                                                                     @RequestParam(required = false) LocalDateTime from,
+                                                                     @RequestParam(required = false) LocalDateTime to,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(noticeService.getNoticesByCursor(searchType, keyword, from, to, cursor, size));
+    }
+
+    /**
+     * 인기 공지사항 조회 API (최근 조회수 순)
+     * @param window 집계 기간 (1h, 24h, 7d)
+     * @param size 조회 개수 (최대 50)
+     * @return ResponseEntity<List<TrendingNoticeDto>>
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingNoticeDto>> getTrendingNotices(@RequestParam(defaultValue = "24h") String window,
+                                                                      @RequestParam(defaultValue = "" + DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(noticeTrendingService.getTrending(TrendingWindow.of(window), size));
+    }
+
+    /**
+     * 공지사항 변경 스트림 API (SSE, 등록/수정/삭제/게시 시작/게시 종료)
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id (놓친 이벤트를 보관하고 있지 않으면 reset 이벤트)
+     * @return SseEmitter
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotices(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return noticeStreamHub.subscribe(lastEventId);
+    }
+
+    /**
+     * 공지사항 내보내기 API (목록 조회와 같은 검색 조건의 공지사항 전체를 스트리밍)
+     * @param format 파일 형식 (NDJSON, CSV)
+     * @param searchType 검색 타입
+     * @param keyword 검색어
+     * @param from 조회시작일
+     * @param to 조회종료일
+     * @return ResponseEntity<StreamingResponseBody>
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportNotices(@RequestParam(defaultValue = "NDJSON") DataFormat format,
+                                                               @RequestParam(required = false) SearchType searchType,
+                                                               @RequestParam(required = false) String keyword,
+                                                               @RequestParam(required = false) LocalDateTime from,
+                                                               @RequestParam(required = false) LocalDateTime to) {
+        StreamingResponseBody body = out -> noticeExportService.exportNotices(format, searchType, keyword, from, to, out);
+        boolean csv = format == DataFormat.CSV;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(csv ? "notices.csv" : "notices.ndjson")
+                        .build()
+                        .toString())
+                .body(body);
     }
 
     /**
      * 공지사항 상세조회 API 생성
      * @param noticeId 공지사항 id
-     * @return ResponseEntity<NoticeDetailResponseDto>
+     * @param request 조건부 요청 헤더(If-None-Match, If-Modified-Since) 확인
+     * @return ResponseEntity<byte[]> NoticeDetailResponseDto를 인코딩한 JSON(identity/gzip), 버전이 같으면 본문 없이 304
      */
     @GetMapping("/{noticeId}")
-    public ResponseEntity<NoticeDetailResponseDto> getNotice(@PathVariable String noticeId) {
-        return ResponseEntity.ok(noticeService.getNotice(Long.valueOf(noticeId)));
+    public ResponseEntity<byte[]> getNotice(@PathVariable String noticeId, WebRequest request) {
+        Long id = Long.valueOf(noticeId);
+        Optional<EncodedResponse> cached = encodedResponseCache.getDetail(id);
+        if (cached.isPresent()) {
+            noticeService.recordView(id);
+            return encodedResponseWriter.write(cached.get(), request);
+        }
+
+        // 조건부 요청은 버전만 확인하여 같으면 엔티티 그래프를 읽거나 JSON으로 변환하지 않음
+        if (encodedResponseWriter.isConditional(request)) {
+            NoticeVersionDto version = noticeService.getNoticeVersion(id);
+            if (encodedResponseWriter.checkNotModified(version.getETag(), version.getLastModified(), request)) {
+                noticeService.recordView(id);
+                return null;
+            }
+        }
+
+        NoticeDetailResponseDto notice = noticeService.getNotice(id);
+        NoticeVersionDto version = new NoticeVersionDto(notice);
+        return encodedResponseWriter.write(
+                encodedResponseCache.putDetail(id, notice, version.getETag(), version.getLastModified()), request);
+    }
+
+    /**
+     * 첨부파일 다운로드 API (Range, If-None-Match 지원)
+     * @param noticeId 공지사항 id
+     * @param attachmentId 첨부파일 id
+     * @param request HttpServletRequest
+     * @param response HttpServletResponse
+     */
+    @GetMapping("/{noticeId}/attachments/{attachmentId}")
+    public void downloadAttachment(@PathVariable Long noticeId, @PathVariable Long attachmentId,
+                                   HttpServletRequest request, HttpServletResponse response) throws IOException {
+        attachmentFileWriter.write(noticeService.getAttachment(noticeId, attachmentId), request, response);
     }
 
     /**
@@ -74,6 +235,28 @@ class NoticeController {
         return ResponseEntity.ok("공지사항 저장 성공");
     }
 
+    /**
+     * 공지사항 일괄 등록 API (NDJSON)
+     * 한 줄에 {"title", "content", "startAt", "endAt"} 객체 하나
+     * @param body 요청 본문
+     * @return ResponseEntity<NoticeImportResultDto> 등록 건수와 실패한 행 목록
+     */
+    @PostMapping(path = "/import", consumes = { "application/x-ndjson" })
+    public ResponseEntity<NoticeImportResultDto> importNoticesFromNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(noticeImportService.importNotices(DataFormat.NDJSON, body));
+    }
+
+    /**
+     * 공지사항 일괄 등록 API (CSV)
+     * 첫 행은 title,content,startAt,endAt 헤더
+     * @param body 요청 본문
+     * @return ResponseEntity<NoticeImportResultDto> 등록 건수와 실패한 행 목록
+     */
+    @PostMapping(path = "/import", consumes = { "text/csv" })
+    public ResponseEntity<NoticeImportResultDto> importNoticesFromCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(noticeImportService.importNotices(DataFormat.CSV, body));
+    }
+
     /**
      * 공지사항 수정 API
      * @param request NoticeRequestDto
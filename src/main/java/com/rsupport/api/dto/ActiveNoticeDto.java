@@ -0,0 +1,32 @@
+package com.rsupport.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시 중인 공지 목록 항목 (불변, 조회수 변경 시 새 객체로 교체)
+ */
+@Getter
+@AllArgsConstructor
+public class ActiveNoticeDto {
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final Integer viewCount;
+    private final Boolean hasAttachment;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+
+    public ActiveNoticeDto addViewCount(long delta) {
+        return new ActiveNoticeDto(id, title, author, createdAt, (int) (viewCount + delta), hasAttachment, startAt, endAt, updatedAt, version);
+    }
+
+    public NoticeListResponseDto toListItem() {
+        return new NoticeListResponseDto(id, title, author, createdAt, viewCount, hasAttachment);
+    }
+}
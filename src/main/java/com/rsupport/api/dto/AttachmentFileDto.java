@@ -0,0 +1,20 @@
+package com.rsupport.api.dto;
+
+import com.rsupport.api.entity.Attachment;
+import lombok.Getter;
+
+/**
+ * 첨부파일 다운로드용 정보
+ */
+@Getter
+public class AttachmentFileDto {
+    private final String fileName;
+    private final String path;
+    private final String checksum;
+
+    public AttachmentFileDto(Attachment attachment) {
+        this.fileName = attachment.getFileName();
+        this.path = attachment.getFileUrl();
+        this.checksum = attachment.getChecksum();
+    }
+}
@@ -0,0 +1,50 @@
+package com.rsupport.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 목록 조회의 탐색 위치 (createdAt, id)
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 토큰으로만 노출
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeCursor {
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime createdAt;
+    private Long id;
+
+    public static NoticeCursor of(NoticeListResponseDto notice) {
+        return new NoticeCursor(notice.getCreatedAt(), notice.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 복원
+     * @param token 커서 토큰 (비어 있으면 첫 페이지)
+     * @return NoticeCursor, 첫 페이지인 경우 null
+     */
+    public static NoticeCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new NoticeCursor(LocalDateTime.parse(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.rsupport.api.entity.Attachment;
 import com.rsupport.api.entity.Notice;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -14,6 +15,7 @@ import java.util.stream.Collectors;
 
 @Getter
 @Setter
+@NoArgsConstructor
 @AllArgsConstructor
 public class NoticeDetailResponseDto {
     private Long id;
@@ -23,6 +25,8 @@ public class NoticeDetailResponseDto {
     private LocalDateTime createdAt;
     private Integer viewCount;
     private List<String> attachmentUrls;
+    private LocalDateTime updatedAt;
+    private Long version;
 
     public NoticeDetailResponseDto(Notice notice) {
         this.id = notice.getId();
@@ -32,5 +36,7 @@ public class NoticeDetailResponseDto {
         this.createdAt = notice.getCreatedAt();
         this.viewCount = notice.getViewCount();
         this.attachmentUrls = notice.getAttachments().stream().map(Attachment::getFileUrl).collect(Collectors.toList());
+        this.updatedAt = notice.getUpdatedAt();
+        this.version = notice.getVersion();
     }
 }
@@ -0,0 +1,21 @@
+package com.rsupport.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "title", "content", "author", "createdAt", "startAt", "endAt", "viewCount"})
+public class NoticeExportDto {
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime startAt;
+    private final LocalDateTime endAt;
+    private final Integer viewCount;
+}
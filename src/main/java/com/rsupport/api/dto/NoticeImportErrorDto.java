@@ -0,0 +1,15 @@
+package com.rsupport.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class NoticeImportErrorDto {
+    private int row; // 데이터 행 번호 (1부터, CSV 헤더와 빈 줄 제외)
+    private List<String> messages;
+}
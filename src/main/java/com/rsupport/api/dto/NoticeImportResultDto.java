@@ -0,0 +1,17 @@
+package com.rsupport.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class NoticeImportResultDto {
+    private int total;
+    private int imported;
+    private int failed;
+    private List<NoticeImportErrorDto> errors; // 실패한 행 (앞에서부터 일부만 포함될 수 있음)
+}
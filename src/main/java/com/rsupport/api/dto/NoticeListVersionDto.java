@@ -0,0 +1,27 @@
+package com.rsupport.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 공지사항 목록의 집계 버전 (검색 조건에 맞는 공지 수, 마지막 수정 시각, 조회수 합계)
+ * 페이지 내용을 비교하지 않으므로 약한 ETag로 사용
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeListVersionDto {
+    private Long count;
+    private LocalDateTime updatedAt; // 공지가 없으면 null
+    private Long viewCount; // 공지가 없으면 null
+
+    public String getETag() {
+        return "W/\"" + count + "-" + getLastModified() + "-" + (viewCount == null ? 0 : viewCount) + "\"";
+    }
+
+    public long getLastModified() {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -1,11 +1,13 @@
 package com.rsupport.api.dto;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.rsupport.api.dto.validation.RegisterRequestValidationGroup;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -14,6 +16,7 @@ import java.util.List;
 
 @Getter
 @Setter
+@NoArgsConstructor
 @AllArgsConstructor
 public class NoticeRequestDto {
     @NotBlank(groups = RegisterRequestValidationGroup.class)
@@ -29,6 +32,7 @@ public class NoticeRequestDto {
 
     private Long authorId;
 
+    @JsonIgnore // 일괄 등록(NDJSON)에서는 첨부파일을 받지 않음
     private List<MultipartFile> files;
 
 }
@@ -0,0 +1,16 @@
+package com.rsupport.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class NoticeSliceResponseDto {
+    private List<NoticeListResponseDto> content;
+    private boolean hasNext;
+    private String nextCursor;
+}
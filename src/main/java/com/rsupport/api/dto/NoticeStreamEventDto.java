@@ -0,0 +1,18 @@
+package com.rsupport.api.dto;
+
+import com.rsupport.api.stream.NoticeStreamEventType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 변경 스트림 이벤트 본문 (SSE data)
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeStreamEventDto {
+    private NoticeStreamEventType type;
+    private Long noticeId;
+    private LocalDateTime occurredAt;
+}
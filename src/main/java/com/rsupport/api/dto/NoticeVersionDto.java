@@ -0,0 +1,32 @@
+package com.rsupport.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 공지사항 상세 응답의 버전 (조건부 조회용, 상세 캐시에 없으면 작성자/첨부파일 없이 버전 컬럼만 조회)
+ * 상세 응답은 수정 버전과 조회수로 결정되므로 둘을 강한 ETag로 사용
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeVersionDto {
+    private Long id;
+    private Long version;
+    private Integer viewCount;
+    private LocalDateTime updatedAt;
+
+    public NoticeVersionDto(NoticeDetailResponseDto notice) {
+        this(notice.getId(), notice.getVersion(), notice.getViewCount(), notice.getUpdatedAt());
+    }
+
+    public String getETag() {
+        return "\"" + id + "-" + version + "-" + viewCount + "\"";
+    }
+
+    public long getLastModified() {
+        return updatedAt == null ? -1 : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,29 @@
+package com.rsupport.api.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 공지사항 항목 (recentViewCount: 집계 기간 안의 조회수)
+ */
+@Getter
+public class TrendingNoticeDto {
+    private final Long id;
+    private final String title;
+    private final String author;
+    private final LocalDateTime createdAt;
+    private final Integer viewCount;
+    private final Boolean hasAttachment;
+    private final long recentViewCount;
+
+    public TrendingNoticeDto(NoticeListResponseDto notice, long recentViewCount) {
+        this.id = notice.getId();
+        this.title = notice.getTitle();
+        this.author = notice.getAuthor();
+        this.createdAt = notice.getCreatedAt();
+        this.viewCount = notice.getViewCount();
+        this.hasAttachment = notice.getHasAttachment();
+        this.recentViewCount = recentViewCount;
+    }
+}
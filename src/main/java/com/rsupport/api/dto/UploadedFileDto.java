@@ -0,0 +1,15 @@
+package com.rsupport.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 저장된 첨부파일 정보
+ */
+@Getter
+@AllArgsConstructor
+public class UploadedFileDto {
+    private String path;
+    private long size;
+    private String checksum; // SHA-256 (hex)
+}
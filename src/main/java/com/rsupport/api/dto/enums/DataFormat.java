@@ -0,0 +1,5 @@
+package com.rsupport.api.dto.enums;
+
+public enum DataFormat {
+    NDJSON, CSV
+}
@@ -0,0 +1,28 @@
+package com.rsupport.api.dto.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 인기 공지사항 집계 기간 (요청 파라미터 값: 1h, 24h, 7d)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+    HOUR("1h", Duration.ofHours(1)),
+    DAY("24h", Duration.ofDays(1)),
+    WEEK("7d", Duration.ofDays(7));
+
+    private final String value;
+    private final Duration span;
+
+    public static TrendingWindow of(String value) {
+        return Arrays.stream(values())
+                .filter(window -> window.value.equals(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 조회 기간입니다: " + value));
+    }
+}
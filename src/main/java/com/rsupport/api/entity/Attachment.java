@@ -2,9 +2,16 @@ package com.rsupport.api.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "ATTACHMENT")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ATTACHMENT) // 첨부파일 컬렉션 캐시는 id만 저장하므로 엔티티도 캐시
+@Table(name = "ATTACHMENT", indexes = {
+        // 목록 조회의 첨부파일 존재 여부(EXISTS) 서브쿼리와 상세 조회의 첨부파일 조회
+        @Index(name = "IDX_ATTACHMENT_NOTICE_ID", columnList = "NOTICE_ID")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -12,7 +19,8 @@ import lombok.*;
 @Builder
 public class Attachment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ATTACHMENT_SEQ_GENERATOR")
+    @SequenceGenerator(name = "ATTACHMENT_SEQ_GENERATOR", sequenceName = "ATTACHMENT_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "FILE_NAME", nullable = false)
@@ -21,6 +29,12 @@ public class Attachment {
     @Column(name = "FILE_URL", nullable = false, length = 500)
     private String fileUrl;
 
+    @Column(name = "FILE_SIZE")
+    private Long fileSize;
+
+    @Column(name = "CHECKSUM", length = 64)
+    private String checksum; // SHA-256 (hex)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "NOTICE_ID", nullable = false)
     private Notice notice;
@@ -0,0 +1,19 @@
+package com.rsupport.api.entity;
+
+/**
+ * Hibernate 2차 캐시 영역 이름 (영역별 크기/TTL은 SecondLevelCacheConfig에서 설정)
+ */
+public final class CacheRegions {
+    public static final String USER = "user";
+    public static final String NOTICE = "notice";
+    public static final String NOTICE_ATTACHMENTS = "notice.attachments";
+    public static final String ATTACHMENT = "attachment";
+
+    /**
+     * 검색 조건이 없는 목록의 앞쪽 페이지 쿼리 캐시
+     */
+    public static final String NOTICE_LIST_QUERY = "notice.list-query";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,30 @@
+package com.rsupport.api.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 내용 주소 저장소(CAS)의 파일 하나
+ * 같은 내용의 첨부파일은 CHECKSUM이 같은 하나의 파일을 공유하고 REF_COUNT로 참조 수를 관리
+ */
+@Entity
+@Table(name = "FILE_BLOB")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileBlob {
+    @Id
+    @Column(name = "CHECKSUM", length = 64)
+    private String checksum; // SHA-256 (hex)
+
+    @Column(name = "FILE_PATH", nullable = false, length = 500)
+    private String filePath;
+
+    @Column(name = "FILE_SIZE", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "REF_COUNT", nullable = false)
+    private int refCount;
+}
@@ -2,20 +2,31 @@ package com.rsupport.api.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "NOTICE")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.NOTICE)
+@Table(name = "NOTICE", indexes = {
+        // 게시 기간(:today BETWEEN START_AT AND END_AT) 조건
+        // 공지가 쌓일수록 START_AT <= :today는 대부분의 행이 만족하므로 선택도가 높은 END_AT을 선두 컬럼으로 둠
+        @Index(name = "IDX_NOTICE_ACTIVE_WINDOW", columnList = "END_AT, START_AT, CREATED_AT"),
+        @Index(name = "IDX_NOTICE_AUTHOR_ID", columnList = "AUTHOR_ID")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Notice {
+    // IDENTITY는 INSERT를 즉시 실행해야 하므로 JDBC 배치가 꺼짐. 시퀀스를 50개씩 할당(pooled)하여 배치 INSERT 사용
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "NOTICE_SEQ_GENERATOR")
+    @SequenceGenerator(name = "NOTICE_SEQ_GENERATOR", sequenceName = "NOTICE_SEQ", allocationSize = 50)
     private Long id;
 
     @Column(name = "TITLE", nullable = false)
@@ -35,13 +46,24 @@ public class Notice {
     @Column(name = "CREATED_AT", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
-    @Column(name = "VIEW_COUNT", nullable = false)
+    @Builder.Default
+    @Column(name = "UPDATED_AT", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now(); // 등록/수정 시각 (조건부 조회의 Last-Modified)
+
+    // 수정할 때마다 증가 (상세 ETag), 조회수는 JDBC로 반영하므로 버전을 올리지 않음
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
+
+    // 조회수는 JDBC 증분 UPDATE로만 반영하므로, 수정 시 엔티티에 읽어 둔 이전 값으로 덮어쓰지 않도록 UPDATE에서 제외
+    @Column(name = "VIEW_COUNT", nullable = false, updatable = false)
     private Integer viewCount = 0;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "AUTHOR_ID", nullable = false)
     private User author;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.NOTICE_ATTACHMENTS)
     @OneToMany(mappedBy = "notice", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Attachment> attachments;
 }
@@ -0,0 +1,36 @@
+package com.rsupport.api.entity;
+
+import com.rsupport.api.entity.enums.SearchField;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 공지사항 역색인(inverted index) 엔트리
+ * PK가 (TOKEN, FIELD, NOTICE_ID) 순서이므로 토큰 단위 조회가 PK 인덱스를 그대로 사용
+ */
+@Entity
+@Table(name = "NOTICE_SEARCH_TOKEN",
+        indexes = @Index(name = "IDX_NOTICE_SEARCH_TOKEN_NOTICE_ID", columnList = "NOTICE_ID"))
+@IdClass(NoticeSearchTokenId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NoticeSearchToken {
+    @Id
+    @Column(name = "TOKEN", length = 16)
+    private String token;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "FIELD", length = 16)
+    private SearchField field;
+
+    @Id
+    @Column(name = "NOTICE_ID")
+    private Long noticeId;
+
+    @Column(name = "WEIGHT", nullable = false)
+    private Integer weight;
+}
@@ -0,0 +1,19 @@
+package com.rsupport.api.entity;
+
+import com.rsupport.api.entity.enums.SearchField;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class NoticeSearchTokenId implements Serializable {
+    private String token;
+    private SearchField field;
+    private Long noticeId;
+}
@@ -2,8 +2,15 @@ package com.rsupport.api.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+/**
+ * 사용자는 거의 변경되지 않으므로 2차 캐시에 두어 작성자 지연 로딩이 DB를 조회하지 않도록 함
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheRegions.USER)
 @Table(name = "USERS")
 @Getter
 @Setter
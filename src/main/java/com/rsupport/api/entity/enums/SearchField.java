@@ -0,0 +1,8 @@
+package com.rsupport.api.entity.enums;
+
+/**
+ * 검색 색인 대상 필드
+ */
+public enum SearchField {
+    TITLE, CONTENT
+}
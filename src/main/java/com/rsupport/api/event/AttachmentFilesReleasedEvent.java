@@ -0,0 +1,15 @@
+package com.rsupport.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 공지사항 수정/삭제로 첨부파일이 더 이상 참조되지 않게 된 이벤트 (트랜잭션 안에서 발행하고 커밋 이후에 파일을 삭제)
+ */
+@Getter
+@AllArgsConstructor
+public class AttachmentFilesReleasedEvent {
+    private List<String> filePaths;
+}
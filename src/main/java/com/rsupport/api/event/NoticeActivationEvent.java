@@ -0,0 +1,17 @@
+package com.rsupport.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시 시작/종료 시각이 되어 공지사항이 게시되거나 내려간 이벤트 (각 노드의 게시 중인 공지 목록에서 발행)
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeActivationEvent {
+    private Long noticeId;
+    private boolean active; // true: 게시 시작, false: 게시 종료
+    private LocalDateTime at; // 게시 시작/종료 시각 (노드 간 중복 발행 구분)
+}
@@ -0,0 +1,82 @@
+package com.rsupport.api.event;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 공지사항 변경 이벤트를 Redis pub/sub으로 다른 노드에 전파
+ * 커밋된 로컬 변경만 발행하고, 수신한 메시지는 remote 이벤트로 다시 발행하여 노드별 캐시 등이 무효화되도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeChangeBroadcaster implements MessageListener {
+    public static final String CHANNEL = "notice:changed";
+    private static final String DELIMITER = "|";
+    private static final String IMPORTED = "IMPORTED"; // 일괄 등록 (공지 id 대신 등록 건수를 전달)
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TransactionalEventListener
+    public void broadcast(NoticeChangedEvent event) {
+        if (event.isRemote()) return;
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER, nodeId, event.getType().name(), event.getNoticeId().toString()));
+        } catch (DataAccessException e) {
+            log.warn("공지사항 변경 이벤트 전파 실패: noticeId={}", event.getNoticeId(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void broadcast(NoticesImportedEvent event) {
+        if (event.isRemote()) return;
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER, nodeId, IMPORTED, Integer.toString(event.getNoticeIds().size())));
+        } catch (DataAccessException e) {
+            log.warn("공지사항 일괄 등록 이벤트 전파 실패: count={}", event.getNoticeIds().size(), e);
+        }
+    }
+
+    /**
+     * 형식이 잘못된 메시지는 버림 (예외가 리스너 컨테이너로 전파되지 않도록 함)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + DELIMITER);
+        if (parts.length != 3) {
+            log.warn("공지사항 변경 이벤트 형식 오류: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) return; // 자신이 발행한 메시지는 커밋 시점에 이미 처리됨
+        if (IMPORTED.equals(parts[1])) {
+            eventPublisher.publishEvent(new NoticesImportedEvent(List.of(), true));
+            return;
+        }
+
+        NoticeChangedEvent event;
+        try {
+            event = new NoticeChangedEvent(Long.valueOf(parts[2]), NoticeChangeType.valueOf(parts[1]), true);
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            log.warn("공지사항 변경 이벤트 형식 오류: {}", body);
+            return;
+        }
+        eventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,5 @@
+package com.rsupport.api.event;
+
+public enum NoticeChangeType {
+    CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,21 @@
+package com.rsupport.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 공지사항 변경 이벤트
+ * 로컬 이벤트는 트랜잭션 안에서 발행되어 커밋 이후에 처리되고,
+ * 다른 노드에서 전달된 이벤트(remote)는 트랜잭션 없이 발행되어 즉시 처리됨
+ */
+@Getter
+@AllArgsConstructor
+public class NoticeChangedEvent {
+    private Long noticeId;
+    private NoticeChangeType type;
+    private boolean remote;
+
+    public static NoticeChangedEvent of(Long noticeId, NoticeChangeType type) {
+        return new NoticeChangedEvent(noticeId, type, false);
+    }
+}
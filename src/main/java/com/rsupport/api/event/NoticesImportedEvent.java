@@ -0,0 +1,22 @@
+package com.rsupport.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 공지사항 일괄 등록 이벤트 (등록한 공지마다 NoticeChangedEvent를 발행하지 않고 한 번만 발행)
+ * 로컬 이벤트는 모든 chunk가 커밋된 이후 트랜잭션 없이 발행되어 즉시 처리되고,
+ * 다른 노드에서 전달된 이벤트(remote)는 등록된 공지 id 없이 전달됨
+ */
+@Getter
+@AllArgsConstructor
+public class NoticesImportedEvent {
+    private List<Long> noticeIds;
+    private boolean remote;
+
+    public static NoticesImportedEvent of(List<Long> noticeIds) {
+        return new NoticesImportedEvent(noticeIds, false);
+    }
+}
@@ -0,0 +1,15 @@
+package com.rsupport.api.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 조회수 증분이 DB에 반영된 이벤트 (트랜잭션 안에서 발행되면 커밋 이후에 처리됨)
+ */
+@Getter
+@AllArgsConstructor
+public class ViewCountsFlushedEvent {
+    private Map<Long, Long> deltas; // 공지사항 id별 조회수 증분
+}
@@ -0,0 +1,10 @@
+package com.rsupport.api.exception;
+
+/**
+ * 인증 정보가 없거나 유효하지 않은 요청 (401 Unauthorized)
+ */
+public class UnauthorizedException extends RuntimeException {
+    public UnauthorizedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.rsupport.api.identity;
+
+/**
+ * 현재 요청의 사용자 식별
+ * notice.identity.mode=session (기본값): HttpSession의 userId
+ * notice.identity.mode=token: 서명된 토큰(Authorization: Bearer)의 userId, 세션을 만들지 않음
+ * 조회 API는 사용자 정보를 사용하지 않으므로 등록/수정 등 사용자가 필요한 시점에만 호출
+ */
+public interface CurrentUserProvider {
+    /**
+     * @return 현재 요청의 사용자 id
+     * @throws IllegalArgumentException 세션에 사용자 정보가 없는 경우 (session)
+     * @throws com.rsupport.api.exception.UnauthorizedException 토큰이 없거나 유효하지 않은 경우 (token)
+     */
+    Long getCurrentUserId();
+}
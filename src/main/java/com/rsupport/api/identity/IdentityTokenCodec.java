@@ -0,0 +1,72 @@
+package com.rsupport.api.identity;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 사용자 토큰 서명/검증: {userId}.{만료 시각(epoch 초)}.{HMAC-SHA256 서명(base64url)}
+ * 서버에 상태를 두지 않으므로 같은 비밀 키를 가진 어느 노드에서도 검증 가능
+ */
+public class IdentityTokenCodec {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public IdentityTokenCodec(String secret) {
+        if (secret == null || secret.length() < 32) {
+            throw new IllegalArgumentException("토큰 서명 키는 32자 이상이어야 합니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String encode(long userId, Instant expiresAt) {
+        String payload = userId + "." + expiresAt.getEpochSecond();
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+    }
+
+    /**
+     * @return 서명과 만료 시각이 유효한 토큰의 userId
+     * @throws IllegalArgumentException 형식, 서명, 만료 시각이 유효하지 않은 경우
+     */
+    public long decode(String token, Instant now) {
+        int separator = token.lastIndexOf('.');
+        String[] claims = separator < 0 ? new String[0] : token.substring(0, separator).split("\\.");
+        if (claims.length != 2) {
+            throw new IllegalArgumentException("인증 토큰 형식이 올바르지 않습니다.");
+        }
+
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("인증 토큰 형식이 올바르지 않습니다.");
+        }
+        if (!MessageDigest.isEqual(sign(token.substring(0, separator)), signature)) { // 비교 시간으로 서명을 추측할 수 없도록 상수 시간 비교
+            throw new IllegalArgumentException("인증 토큰 서명이 올바르지 않습니다.");
+        }
+
+        try {
+            if (now.getEpochSecond() >= Long.parseLong(claims[1])) {
+                throw new IllegalArgumentException("인증 토큰이 만료되었습니다.");
+            }
+            return Long.parseLong(claims[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("인증 토큰 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
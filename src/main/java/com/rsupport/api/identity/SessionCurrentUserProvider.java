@@ -0,0 +1,24 @@
+package com.rsupport.api.identity;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+/**
+ * 세션에 저장된 userId 사용 (세션이 없으면 새로 만들지 않음)
+ */
+@Component
+@ConditionalOnProperty(name = "notice.identity.mode", havingValue = "session", matchIfMissing = true)
+public class SessionCurrentUserProvider implements CurrentUserProvider {
+
+    @Override
+    public Long getCurrentUserId() {
+        return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+                .map(attributes -> ((ServletRequestAttributes) attributes).getRequest().getSession(false))
+                .map(session -> (Long) session.getAttribute("userId"))
+                .orElseThrow(() -> new IllegalArgumentException("세션에서 사용자 정보를 찾을 수 없습니다."));
+    }
+}
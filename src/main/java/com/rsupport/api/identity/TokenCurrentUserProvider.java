@@ -0,0 +1,53 @@
+package com.rsupport.api.identity;
+
+import com.rsupport.api.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Authorization: Bearer 토큰에서 사용자 id를 읽음 (세션/쿠키 없음)
+ * 검증한 id는 요청 속성에 두어 같은 요청 안에서는 한 번만 검증
+ * 토큰이 없거나 형식/서명/만료 시각이 유효하지 않으면 UnauthorizedException (401)
+ */
+@Component
+@ConditionalOnProperty(name = "notice.identity.mode", havingValue = "token")
+public class TokenCurrentUserProvider implements CurrentUserProvider {
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String USER_ID_ATTRIBUTE = TokenCurrentUserProvider.class.getName() + ".userId";
+
+    private final IdentityTokenCodec tokenCodec;
+
+    public TokenCurrentUserProvider(@Value("${notice.identity.token-secret}") String tokenSecret) {
+        this.tokenCodec = new IdentityTokenCodec(tokenSecret);
+    }
+
+    @Override
+    public Long getCurrentUserId() {
+        HttpServletRequest request = Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+                .map(attributes -> ((ServletRequestAttributes) attributes).getRequest())
+                .orElseThrow(() -> new IllegalArgumentException("요청에서 사용자 정보를 찾을 수 없습니다."));
+
+        Long userId = (Long) request.getAttribute(USER_ID_ATTRIBUTE);
+        if (userId == null) {
+            String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+            if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+                throw new UnauthorizedException("인증 토큰이 없습니다.");
+            }
+            try {
+                userId = tokenCodec.decode(authorization.substring(BEARER_PREFIX.length()).trim(), Instant.now());
+            } catch (IllegalArgumentException e) { // 형식, 서명, 만료 시각 오류
+                throw new UnauthorizedException(e.getMessage());
+            }
+            request.setAttribute(USER_ID_ATTRIBUTE, userId);
+        }
+        return userId;
+    }
+}
@@ -4,6 +4,9 @@ import com.rsupport.api.entity.Attachment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+    Optional<Attachment> findByIdAndNoticeId(Long id, Long noticeId);
 }
@@ -0,0 +1,31 @@
+package com.rsupport.api.repository;
+
+import com.rsupport.api.entity.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount + 1 WHERE b.checksum = :checksum")
+    int incrementRefCount(@Param("checksum") String checksum);
+
+    /**
+     * 참조 1인 행을 INSERT (merge와 달리 이미 있으면 덮어쓰지 않고 키 중복으로 실패)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO FILE_BLOB (CHECKSUM, FILE_PATH, FILE_SIZE, REF_COUNT) VALUES (:checksum, :filePath, :fileSize, 1)",
+            nativeQuery = true)
+    int insertReferenced(@Param("checksum") String checksum, @Param("filePath") String filePath, @Param("fileSize") long fileSize);
+
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount - 1 WHERE b.checksum = :checksum AND b.refCount > 0")
+    int decrementRefCount(@Param("checksum") String checksum);
+
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.checksum = :checksum AND b.refCount = 0")
+    int deleteIfUnreferenced(@Param("checksum") String checksum);
+}
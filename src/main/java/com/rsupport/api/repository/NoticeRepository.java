@@ -1,31 +1,65 @@
 package com.rsupport.api.repository;
 
+import com.rsupport.api.dto.ActiveNoticeDto;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeVersionDto;
 import com.rsupport.api.entity.Notice;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface NoticeRepository extends JpaRepository<Notice, Long> {
-
-    @Query("SELECT n FROM Notice n " +
-            "WHERE (:searchType IS NULL OR " +
-            "       (:searchType = 'TITLE' AND n.title LIKE %:keyword%) OR " +
-            "       (:searchType = 'TITLE_CONTENT' AND (n.title LIKE %:keyword% OR n.content LIKE %:keyword%))) " +
-            "AND (:from IS NULL OR n.createdAt >= :from) " +
-            "AND (:to IS NULL OR n.createdAt <= :to) " +
-            "AND :today BETWEEN n.startAt AND n.endAt")
-    Page<Notice> searchNotices(
-            @Param("searchType") String searchType,
-            @Param("keyword") String keyword,
-            @Param("from") LocalDateTime from,
-            @Param("to") LocalDateTime to,
-            @Param("today") LocalDateTime today,
-            Pageable pageable);
+public interface NoticeRepository extends JpaRepository<Notice, Long>, NoticeRepositoryCustom {
+
+    /**
+     * 목록 조회용 DTO 프로젝션 (작성자는 조인, 첨부파일 여부는 EXISTS 서브쿼리로 조회하여 행마다 지연 로딩이 발생하지 않음)
+     */
+    String HAS_ATTACHMENT = "CASE WHEN EXISTS (SELECT 1 FROM Attachment at WHERE at.notice = n) THEN true ELSE false END";
+
+    String LIST_ITEM_SELECT = "SELECT new com.rsupport.api.dto.NoticeListResponseDto(" +
+            "n.id, n.title, a.username, n.createdAt, n.viewCount, " + HAS_ATTACHMENT + ") " +
+            "FROM Notice n JOIN n.author a ";
+
+    /**
+     * 게시 중인 공지 목록(ActiveNoticeRegistry)용 프로젝션 (목록 항목 + 게시 기간 + 수정 시각/버전)
+     */
+    String ACTIVE_NOTICE_SELECT = "SELECT new com.rsupport.api.dto.ActiveNoticeDto(" +
+            "n.id, n.title, a.username, n.createdAt, n.viewCount, " + HAS_ATTACHMENT + ", n.startAt, n.endAt, n.updatedAt, n.version) " +
+            "FROM Notice n JOIN n.author a ";
+
+    /**
+     * 상세 조회 시 작성자와 첨부파일을 한 번에 조회 (트랜잭션 밖에서도 DTO 변환 가능)
+     */
+    @Override
+    @EntityGraph(attributePaths = {"author", "attachments"})
+    Optional<Notice> findById(Long id);
+
+    /**
+     * id 목록에 해당하는 공지사항을 목록 DTO로 조회 (순서는 보장하지 않음)
+     */
+    @Query(LIST_ITEM_SELECT + "WHERE n.id IN :ids")
+    List<NoticeListResponseDto> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시 종료 전인 공지사항 (게시 예정 포함)
+     */
+    @Query(ACTIVE_NOTICE_SELECT + "WHERE n.endAt >= :now")
+    List<ActiveNoticeDto> findUnexpiredNotices(@Param("now") LocalDateTime now);
+
+    @Query(ACTIVE_NOTICE_SELECT + "WHERE n.id = :id")
+    Optional<ActiveNoticeDto> findActiveNoticeById(@Param("id") Long id);
+
+    /**
+     * 조건부 조회용 버전 (작성자/첨부파일을 읽지 않음)
+     */
+    @Query("SELECT new com.rsupport.api.dto.NoticeVersionDto(n.id, n.version, n.viewCount, n.updatedAt) FROM Notice n WHERE n.id = :id")
+    Optional<NoticeVersionDto> findVersionById(@Param("id") Long id);
 
 }
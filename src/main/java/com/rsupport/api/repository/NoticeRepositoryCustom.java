@@ -0,0 +1,41 @@
+package com.rsupport.api.repository;
+
+import com.rsupport.api.dto.NoticeExportDto;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeListVersionDto;
+import com.rsupport.api.dto.enums.SearchType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색 조건에 따라 쿼리를 동적으로 구성하는 목록 조회
+ * 값이 없는 조건은 `:x IS NULL OR ...` 분기로 남기지 않고 쿼리에서 제외하여 옵티마이저가 인덱스를 사용할 수 있도록 함
+ */
+public interface NoticeRepositoryCustom {
+    Page<NoticeListResponseDto> searchNotices(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to,
+                                              LocalDateTime today, Pageable pageable);
+
+    /**
+     * 커서 기반 목록 조회 (createdAt, id 내림차순으로 커서 다음 위치부터 탐색)
+     * Slice로 반환하므로 COUNT 쿼리를 실행하지 않으며, Pageable의 정렬 조건은 사용하지 않음
+     */
+    Slice<NoticeListResponseDto> scrollNotices(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to,
+                                               LocalDateTime today, LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable);
+
+    /**
+     * 검색 조건에 맞는 공지사항의 집계 버전 (공지 수, 마지막 수정 시각, 조회수 합계)
+     * 키워드 조건은 LIKE 전체 탐색이 되므로 키워드 없는 목록에서만 사용
+     */
+    NoticeListVersionDto aggregateNotices(LocalDateTime from, LocalDateTime to, LocalDateTime today);
+
+    /**
+     * 내보내기용 chunk 조회 (createdAt, id 내림차순으로 커서 다음 위치부터 limit건)
+     * 엔티티 대신 작성자를 포함한 DTO로 읽어 영속성 컨텍스트와 2차 캐시를 거치지 않음
+     */
+    List<NoticeExportDto> findExportChunk(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to,
+                                          LocalDateTime today, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+}
@@ -0,0 +1,348 @@
+package com.rsupport.api.repository;
+
+import com.rsupport.api.dto.NoticeExportDto;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeListVersionDto;
+import com.rsupport.api.dto.enums.SearchType;
+import com.rsupport.api.entity.Attachment;
+import com.rsupport.api.entity.CacheRegions;
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.entity.NoticeSearchToken;
+import com.rsupport.api.entity.User;
+import com.rsupport.api.entity.enums.SearchField;
+import com.rsupport.api.service.NGramTokenizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class NoticeRepositoryCustomImpl implements NoticeRepositoryCustom {
+    private static final char LIKE_ESCAPE = '\\';
+    private static final String SCORE = "score";
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int queryCachePages;
+    private final long queryCacheBucketSeconds;
+
+    NoticeRepositoryCustomImpl(@Value("${notice.cache.query.first-pages:3}") int queryCachePages,
+                               @Value("${notice.cache.query.ttl:30s}") Duration queryCacheTtl) {
+        this.queryCachePages = queryCachePages;
+        this.queryCacheBucketSeconds = Math.max(1, queryCacheTtl.toSeconds());
+    }
+
+    @Override
+    public Page<NoticeListResponseDto> searchNotices(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to,
+                                                     LocalDateTime today, Pageable pageable) {
+        if (pageable.getSort().getOrderFor(SCORE) != null) {
+            Set<String> tokens = searchType != null && keyword != null ? NGramTokenizer.tokenize(keyword).keySet() : Set.of();
+            if (!tokens.isEmpty()) {
+                return rankNotices(searchType, keyword, tokens, from, to, today, pageable);
+            }
+            // 점수를 매길 수 없는 조회(검색어 없음, 한 글자 검색어)는 최신순으로 정렬
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), DEFAULT_SORT);
+        }
+
+        boolean cacheable = isCacheable(searchType, keyword, from, to, pageable);
+        LocalDateTime at = cacheable ? truncateToCacheBucket(today) : today;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<NoticeListResponseDto> query = cb.createQuery(NoticeListResponseDto.class);
+        Root<Notice> notice = query.from(Notice.class);
+        query.select(listItem(cb, query, notice))
+                .where(conditions(cb, query, notice, searchType, keyword, from, to, at).toArray(Predicate[]::new))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), notice, cb));
+
+        TypedQuery<NoticeListResponseDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        // 첫 페이지의 결과가 페이지 크기보다 작으면 COUNT 쿼리를 생략
+        return PageableExecutionUtils.getPage(cacheable(typedQuery, cacheable).getResultList(), pageable,
+                () -> count(searchType, keyword, from, to, at, cacheable));
+    }
+
+    /**
+     * 검색어 토큰을 모두 포함하는 공지사항을 점수(가중치 합) 순으로 조회
+     * 제목 토큰은 내용 토큰보다 높은 가중치를 가지며, 점수가 같으면 최신 공지가 먼저 조회됨
+     * 점수 순 id를 먼저 조회한 뒤 목록 DTO로 변환하여 순서를 유지
+     */
+    private Page<NoticeListResponseDto> rankNotices(SearchType searchType, String keyword, Set<String> tokens,
+                                                    LocalDateTime from, LocalDateTime to, LocalDateTime today, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Notice> notice = query.from(Notice.class);
+        Root<NoticeSearchToken> token = query.from(NoticeSearchToken.class);
+        List<Predicate> conditions = conditions(cb, query, notice, null, null, from, to, today);
+        conditions.add(cb.equal(token.get("noticeId"), notice.get("id")));
+        conditions.add(token.get("token").in(tokens));
+        conditions.add(token.get("field").in(searchFields(searchType)));
+        conditions.add(containsKeyword(cb, notice, searchType, keyword));
+        query.select(notice.get("id"))
+                .where(conditions.toArray(Predicate[]::new))
+                .groupBy(notice.get("id"))
+                .having(cb.equal(cb.countDistinct(token.get("token")), (long) tokens.size()))
+                .orderBy(cb.desc(cb.sum(token.<Integer>get("weight"))),
+                        cb.desc(cb.greatest(notice.<LocalDateTime>get("createdAt"))),
+                        cb.desc(notice.get("id")));
+
+        TypedQuery<Long> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Long> noticeIds = typedQuery.getResultList();
+
+        Map<Long, NoticeListResponseDto> notices = findListItems(noticeIds).stream()
+                .collect(Collectors.toMap(NoticeListResponseDto::getId, Function.identity()));
+        List<NoticeListResponseDto> content = noticeIds.stream()
+                .map(notices::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> count(searchType, keyword, from, to, today, false));
+    }
+
+    private List<NoticeListResponseDto> findListItems(List<Long> noticeIds) {
+        if (noticeIds.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<NoticeListResponseDto> query = cb.createQuery(NoticeListResponseDto.class);
+        Root<Notice> notice = query.from(Notice.class);
+        query.select(listItem(cb, query, notice))
+                .where(notice.get("id").in(noticeIds));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Slice<NoticeListResponseDto> scrollNotices(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to,
+                                                      LocalDateTime today, LocalDateTime cursorCreatedAt, Long cursorId, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<NoticeListResponseDto> query = cb.createQuery(NoticeListResponseDto.class);
+        Root<Notice> notice = query.from(Notice.class);
+        List<Predicate> conditions = conditions(cb, query, notice, searchType, keyword, from, to, today);
+        if (cursorCreatedAt != null) {
+            conditions.add(after(cb, notice, cursorCreatedAt, cursorId));
+        }
+        query.select(listItem(cb, query, notice))
+                .where(conditions.toArray(Predicate[]::new))
+                .orderBy(cb.desc(notice.get("createdAt")), cb.desc(notice.get("id")));
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<NoticeListResponseDto> content = new ArrayList<>(entityManager.createQuery(query)
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList());
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content.remove(content.size() - 1);
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public NoticeListVersionDto aggregateNotices(LocalDateTime from, LocalDateTime to, LocalDateTime today) {
+        boolean cacheable = from == null && to == null;
+        LocalDateTime at = cacheable ? truncateToCacheBucket(today) : today;
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<NoticeListVersionDto> query = cb.createQuery(NoticeListVersionDto.class);
+        Root<Notice> notice = query.from(Notice.class);
+        query.select(cb.construct(NoticeListVersionDto.class,
+                        cb.count(notice),
+                        cb.greatest(notice.<LocalDateTime>get("updatedAt")),
+                        cb.sumAsLong(notice.get("viewCount"))))
+                .where(conditions(cb, query, notice, null, null, from, to, at).toArray(Predicate[]::new));
+        return cacheable(entityManager.createQuery(query), cacheable).getSingleResult();
+    }
+
+    @Override
+    public List<NoticeExportDto> findExportChunk(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to,
+                                                 LocalDateTime today, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<NoticeExportDto> query = cb.createQuery(NoticeExportDto.class);
+        Root<Notice> notice = query.from(Notice.class);
+        Join<Notice, User> author = notice.join("author");
+        List<Predicate> conditions = conditions(cb, query, notice, searchType, keyword, from, to, today);
+        if (cursorCreatedAt != null) {
+            conditions.add(after(cb, notice, cursorCreatedAt, cursorId));
+        }
+        query.select(cb.construct(NoticeExportDto.class,
+                        notice.get("id"), notice.get("title"), notice.get("content"), author.get("username"),
+                        notice.get("createdAt"), notice.get("startAt"), notice.get("endAt"), notice.get("viewCount")))
+                .where(conditions.toArray(Predicate[]::new))
+                .orderBy(cb.desc(notice.get("createdAt")), cb.desc(notice.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * (createdAt, id) 내림차순에서 커서 다음 위치
+     */
+    private static Predicate after(CriteriaBuilder cb, Root<Notice> notice, LocalDateTime cursorCreatedAt, Long cursorId) {
+        Path<LocalDateTime> createdAt = notice.get("createdAt");
+        return cb.or(
+                cb.lessThan(createdAt, cursorCreatedAt),
+                cb.and(cb.equal(createdAt, cursorCreatedAt), cb.lessThan(notice.get("id"), cursorId)));
+    }
+
+    private long count(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, LocalDateTime today,
+                       boolean cacheable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Notice> notice = query.from(Notice.class);
+        query.select(cb.count(notice))
+                .where(conditions(cb, query, notice, searchType, keyword, from, to, today).toArray(Predicate[]::new));
+        return cacheable(entityManager.createQuery(query), cacheable).getSingleResult();
+    }
+
+    /**
+     * 검색 조건이 없는 목록의 앞쪽 페이지만 쿼리 캐시 사용 (조회가 몰리는 페이지, 검색 결과는 조합이 많아 적중률이 낮음)
+     */
+    private boolean isCacheable(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return (searchType == null || keyword == null) && from == null && to == null
+                && pageable.isPaged() && pageable.getPageNumber() < queryCachePages;
+    }
+
+    /**
+     * 쿼리 캐시 키가 요청마다 달라지지 않도록 게시 기간 기준 시각을 TTL 단위로 내림
+     * 게시 시작/종료가 목록에 반영되는 시점이 최대 TTL만큼 늦어질 수 있음
+     */
+    private LocalDateTime truncateToCacheBucket(LocalDateTime today) {
+        long secondOfDay = today.toLocalTime().toSecondOfDay();
+        return today.truncatedTo(ChronoUnit.DAYS).plusSeconds(secondOfDay - secondOfDay % queryCacheBucketSeconds);
+    }
+
+    /**
+     * 쿼리 캐시에 결과를 저장 (Hibernate로 NOTICE/USERS/ATTACHMENT 테이블을 변경하면 자동으로 무효화됨)
+     */
+    private static <T> TypedQuery<T> cacheable(TypedQuery<T> query, boolean cacheable) {
+        if (cacheable) {
+            query.setHint(HibernateHints.HINT_CACHEABLE, true)
+                    .setHint(HibernateHints.HINT_CACHE_REGION, CacheRegions.NOTICE_LIST_QUERY);
+        }
+        return query;
+    }
+
+    /**
+     * 목록 조회용 DTO 프로젝션 (작성자는 조인, 첨부파일 여부는 EXISTS 서브쿼리로 조회)
+     */
+    private static CompoundSelection<NoticeListResponseDto> listItem(
+            CriteriaBuilder cb, CriteriaQuery<?> query, Root<Notice> notice) {
+        Join<Notice, User> author = notice.join("author");
+
+        Subquery<Long> attachment = query.subquery(Long.class);
+        Root<Attachment> attachmentRoot = attachment.from(Attachment.class);
+        attachment.select(attachmentRoot.get("id"))
+                .where(cb.equal(attachmentRoot.get("notice"), notice));
+
+        return cb.construct(NoticeListResponseDto.class,
+                notice.get("id"),
+                notice.get("title"),
+                author.get("username"),
+                notice.get("createdAt"),
+                notice.get("viewCount"),
+                cb.<Boolean>selectCase().when(cb.exists(attachment), cb.literal(true)).otherwise(cb.literal(false)));
+    }
+
+    /**
+     * 게시 기간 조건은 항상 포함하고, 값이 있는 검색 조건만 추가
+     * 검색어는 n-gram 역색인으로 후보를 좁힌 뒤 LIKE로 실제 포함 여부를 확인 (한 글자 검색어는 LIKE만 사용)
+     */
+    private static List<Predicate> conditions(CriteriaBuilder cb, CommonAbstractCriteria query, Root<Notice> notice,
+                                              SearchType searchType, String keyword,
+                                              LocalDateTime from, LocalDateTime to, LocalDateTime today) {
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(cb.lessThanOrEqualTo(notice.get("startAt"), today));
+        conditions.add(cb.greaterThanOrEqualTo(notice.get("endAt"), today));
+
+        if (searchType != null && keyword != null) {
+            Set<String> tokens = NGramTokenizer.tokenize(keyword).keySet();
+            if (!tokens.isEmpty()) {
+                conditions.add(notice.get("id").in(indexedNoticeIds(cb, query, searchType, tokens)));
+            }
+            conditions.add(containsKeyword(cb, notice, searchType, keyword));
+        }
+        if (from != null) {
+            conditions.add(cb.greaterThanOrEqualTo(notice.get("createdAt"), from));
+        }
+        if (to != null) {
+            conditions.add(cb.lessThanOrEqualTo(notice.get("createdAt"), to));
+        }
+        return conditions;
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 공지사항 id (토큰 단위 조회는 역색인 PK를 사용)
+     */
+    private static Subquery<Long> indexedNoticeIds(CriteriaBuilder cb, CommonAbstractCriteria query, SearchType searchType,
+                                                   Set<String> tokens) {
+        Subquery<Long> indexed = query.subquery(Long.class);
+        Root<NoticeSearchToken> token = indexed.from(NoticeSearchToken.class);
+        indexed.select(token.get("noticeId"))
+                .where(token.get("token").in(tokens), token.get("field").in(searchFields(searchType)))
+                .groupBy(token.get("noticeId"))
+                .having(cb.equal(cb.countDistinct(token.get("token")), (long) tokens.size()));
+        return indexed;
+    }
+
+    /**
+     * 역색인은 대소문자를 구분하지 않고 단어 경계를 넘는 토큰을 만들지 않으므로, 후보 중 검색어를 그대로 포함하는 공지만 남김
+     */
+    private static Predicate containsKeyword(CriteriaBuilder cb, Root<Notice> notice, SearchType searchType, String keyword) {
+        String pattern = "%" + escapeLike(keyword) + "%";
+        Predicate title = cb.like(notice.get("title"), pattern, LIKE_ESCAPE);
+        return searchType == SearchType.TITLE
+                ? title
+                : cb.or(title, cb.like(notice.get("content"), pattern, LIKE_ESCAPE));
+    }
+
+    private static List<SearchField> searchFields(SearchType searchType) {
+        return searchType == SearchType.TITLE
+                ? List.of(SearchField.TITLE)
+                : List.of(SearchField.TITLE, SearchField.CONTENT);
+    }
+
+    private static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,33 @@
+package com.rsupport.api.repository;
+
+import com.rsupport.api.event.ViewCountsFlushedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회수 증분을 JDBC 배치로 DB에 반영 (엔티티를 읽지 않고 VIEW_COUNT만 갱신)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NoticeViewCountRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE NOTICE SET VIEW_COUNT = VIEW_COUNT + ? WHERE ID = ?";
+
+    /**
+     * @param deltas 공지사항 id별 조회수 증분
+     */
+    public void addViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> rows = deltas.entrySet().stream()
+                .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, rows);
+        eventPublisher.publishEvent(new ViewCountsFlushedEvent(deltas));
+    }
+}
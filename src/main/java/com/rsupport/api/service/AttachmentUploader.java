@@ -0,0 +1,118 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.dto.UploadedFileDto;
+import com.rsupport.api.event.AttachmentFilesReleasedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 첨부파일 병렬 저장
+ * 트랜잭션 밖에서 제한된 크기의 스레드 풀로 파일을 동시에 저장하여 DB 커넥션을 디스크 쓰기 동안 잡지 않음
+ * 풀과 대기열이 가득 차면 요청 스레드가 직접 저장 (CallerRunsPolicy)
+ * 공지사항 수정/삭제로 분리된 첨부파일은 커밋 이후에 삭제
+ */
+@Slf4j
+@Component
+public class AttachmentUploader {
+    private static final int QUEUE_CAPACITY_PER_THREAD = 16;
+
+    private final FileService fileService;
+    private final ExecutorService executor;
+    private final DistributionSummary uploadBytes;
+
+    public AttachmentUploader(FileService fileService,
+                              MeterRegistry meterRegistry,
+                              @Value("${notice.file.upload-parallelism:4}") int parallelism) {
+        this.fileService = fileService;
+        this.uploadBytes = DistributionSummary.builder("notice.file.upload.bytes")
+                .baseUnit("bytes")
+                .description("저장한 첨부파일 크기")
+                .register(meterRegistry);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism * QUEUE_CAPACITY_PER_THREAD),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "attachment-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 첨부파일을 병렬로 저장하고 요청 순서대로 반환
+     * 하나라도 실패하면 저장에 성공한 파일을 정리한 뒤 예외를 던짐
+     */
+    public List<UploadedFileDto> uploadAll(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<UploadedFileDto>> uploads = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> fileService.upload(file), executor))
+                .toList();
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            deleteAll(uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .toList());
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        List<UploadedFileDto> uploaded = uploads.stream().map(CompletableFuture::join).toList();
+        uploaded.forEach(file -> uploadBytes.record(file.getSize()));
+        return uploaded;
+    }
+
+    /**
+     * 메타데이터 저장에 실패한 경우 저장한 파일 정리
+     */
+    public void deleteAll(List<UploadedFileDto> uploaded) {
+        uploaded.forEach(file -> {
+            try {
+                fileService.delete(file.getPath());
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete uploaded file {}", file.getPath(), e);
+            }
+        });
+    }
+
+    /**
+     * 커밋된 수정/삭제의 첨부파일 삭제
+     * 커밋이 끝난 트랜잭션에 참여하지 않도록 트랜잭션 없이 실행 (CAS 참조 해제는 파일마다 새 트랜잭션)
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onFilesReleased(AttachmentFilesReleasedEvent event) {
+        event.getFilePaths().forEach(filePath -> {
+            try {
+                fileService.delete(filePath);
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete released file {}", filePath, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+}
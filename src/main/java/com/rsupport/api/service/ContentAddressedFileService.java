@@ -0,0 +1,214 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.dto.UploadedFileDto;
+import com.rsupport.api.repository.FileBlobRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+/**
+ * 내용 주소 저장소(CAS) (notice.file.storage-mode=cas)
+ * 파일을 SHA-256 기준 `cas/ab/cd/<sha256>` 경로에 한 번만 저장하고, 같은 내용의 첨부파일은 FILE_BLOB의 REF_COUNT로 공유
+ * 저장은 트랜잭션 없이 파일을 쓰고 체크섬을 계산한 뒤 REF_COUNT 증가만 짧은 트랜잭션으로 커밋 (디스크 쓰기 동안 DB 커넥션을 잡지 않음)
+ * 참조 해제는 호출한 트랜잭션에 참여하고, 참조가 0이 된 파일은 커밋 이후 별도 트랜잭션에서 행을 지우면서 삭제
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "notice.file.storage-mode", havingValue = "cas")
+public class ContentAddressedFileService implements FileService {
+    private static final int MAX_ACQUIRE_ATTEMPTS = 3;
+
+    private final Path casDir;
+    private final Path tempDir;
+    private final FileStreamWriter writer = new FileStreamWriter();
+    private final FileBlobRepository fileBlobRepository;
+    private final TransactionTemplate requiresNew;
+
+    public ContentAddressedFileService(@Value("${notice.file.upload-dir:uploads/}") String uploadDir,
+                                       FileBlobRepository fileBlobRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.casDir = Paths.get(uploadDir, "cas");
+        this.tempDir = casDir.resolve("tmp");
+        this.fileBlobRepository = fileBlobRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 첨부파일 저장
+     * 임시 파일로 받으면서 체크섬을 계산한 뒤, 참조를 먼저 커밋하고(참조가 있는 파일은 정리되지 않음) 같은 내용이 없을 때만 최종 경로로 이동
+     * 호출한 트랜잭션과 별개로 참조가 커밋되므로, 메타데이터 저장에 실패하면 호출한 쪽에서 delete로 참조를 해제해야 함
+     */
+    @Override
+    @Timed("notice.file.upload")
+    public UploadedFileDto upload(MultipartFile file) {
+        Path tempPath = tempDir.resolve(UUID.randomUUID().toString());
+        UploadedFileDto written;
+        try {
+            Files.createDirectories(tempDir);
+            written = writer.write(file, tempPath);
+        } catch (IOException e) {
+            deleteQuietly(tempPath);
+            throw new RuntimeException("파일 저장 실패", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(tempPath);
+            throw e;
+        }
+
+        Path blobPath = blobPath(written.getChecksum());
+        try {
+            acquire(written.getChecksum(), blobPath, written.getSize());
+        } catch (RuntimeException e) {
+            deleteQuietly(tempPath);
+            throw e;
+        }
+        try {
+            if (Files.exists(blobPath)) {
+                Files.delete(tempPath); // 이미 저장된 내용
+            } else {
+                Files.createDirectories(blobPath.getParent());
+                move(tempPath, blobPath);
+            }
+        } catch (IOException e) {
+            deleteQuietly(tempPath);
+            release(written.getChecksum());
+            throw new RuntimeException("파일 저장 실패", e);
+        }
+        return new UploadedFileDto(blobPath.toString(), written.getSize(), written.getChecksum());
+    }
+
+    /**
+     * 첨부파일 참조 해제
+     * CAS 경로가 아닌 기존 파일은 바로 삭제
+     */
+    @Override
+    @Transactional
+    @Timed("notice.file.delete")
+    public void delete(String filePath) {
+        if (filePath == null || filePath.isEmpty()) {
+            throw new IllegalArgumentException("파일 경로가 비어 있습니다.");
+        }
+
+        Path path = Paths.get(filePath);
+        if (!path.startsWith(casDir)) {
+            deleteQuietly(path);
+            return;
+        }
+
+        String checksum = path.getFileName().toString();
+        fileBlobRepository.decrementRefCount(checksum);
+        afterCommit(checksum);
+    }
+
+    /**
+     * 별도 트랜잭션에서 REF_COUNT를 1 올리고, 행이 없으면 REF_COUNT 1인 행을 만듦
+     * (동시에 같은 내용을 처음 올려도 한쪽의 INSERT만 성공하고, 다른 쪽은 다시 시도하여 생성된 행을 증가시킴)
+     */
+    private void acquire(String checksum, Path blobPath, long size) {
+        for (int attempt = 0; attempt < MAX_ACQUIRE_ATTEMPTS; attempt++) {
+            try {
+                requiresNew.executeWithoutResult(status -> {
+                    if (fileBlobRepository.incrementRefCount(checksum) == 0) {
+                        fileBlobRepository.insertReferenced(checksum, blobPath.toString(), size);
+                    }
+                });
+                return;
+            } catch (DataIntegrityViolationException e) {
+                log.debug("File blob {} was created concurrently", checksum);
+            }
+        }
+        throw new IllegalStateException("파일 참조를 등록하지 못했습니다: " + checksum);
+    }
+
+    /**
+     * 커밋한 참조를 되돌리고 참조가 0이면 파일 정리 (최종 경로로 옮기지 못한 경우)
+     */
+    private void release(String checksum) {
+        try {
+            requiresNew.executeWithoutResult(status -> fileBlobRepository.decrementRefCount(checksum));
+        } catch (RuntimeException e) {
+            log.warn("Failed to release file blob {}", checksum, e);
+            return;
+        }
+        purge(checksum);
+    }
+
+    /**
+     * 참조 해제가 커밋된 뒤 참조가 0인 파일을 정리
+     */
+    private void afterCommit(String checksum) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            purge(checksum);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    purge(checksum);
+                }
+            }
+        });
+    }
+
+    /**
+     * 참조가 0인 행을 지우고(다른 업로드의 REF_COUNT 증가와 행 잠금으로 직렬화) 같은 트랜잭션 안에서 파일을 삭제
+     */
+    private void purge(String checksum) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                if (fileBlobRepository.deleteIfUnreferenced(checksum) > 0) {
+                    try {
+                        Files.deleteIfExists(blobPath(checksum));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge file blob {}", checksum, e);
+        }
+    }
+
+    private Path blobPath(String checksum) {
+        return casDir.resolve(checksum.substring(0, 2)).resolve(checksum.substring(2, 4)).resolve(checksum);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileAlreadyExistsException e) {
+            Files.delete(source);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete file {}", path, e);
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package com.rsupport.api.service;
 
+import com.rsupport.api.dto.UploadedFileDto;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
-    String upload(MultipartFile file);
+    UploadedFileDto upload(MultipartFile file);
     void delete(String filePath);
 }
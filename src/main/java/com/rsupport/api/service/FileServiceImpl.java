@@ -1,6 +1,9 @@
 package com.rsupport.api.service;
 
-import lombok.RequiredArgsConstructor;
+import com.rsupport.api.dto.UploadedFileDto;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -11,25 +14,42 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.UUID;
 
+/**
+ * 업로드 디렉토리에 `UUID-파일명`으로 저장 (notice.file.storage-mode=flat)
+ */
 @Service
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notice.file.storage-mode", havingValue = "flat", matchIfMissing = true)
 public class FileServiceImpl implements FileService {
-    private static final String UPLOAD_DIR = "uploads/";
+    private final Path uploadDir;
+    private final FileStreamWriter writer = new FileStreamWriter();
 
+    public FileServiceImpl(@Value("${notice.file.upload-dir:uploads/}") String uploadDir) {
+        this.uploadDir = Paths.get(uploadDir);
+    }
+
+    /**
+     * 첨부파일 저장
+     * 파일 전체를 힙에 올리지 않고 고정 크기 버퍼로 스트리밍하면서 SHA-256 체크섬을 함께 계산
+     */
     @Override
-    public String upload(MultipartFile file) {
+    @Timed("notice.file.upload")
+    public UploadedFileDto upload(MultipartFile file) {
         try {
-            Files.createDirectories(Paths.get(UPLOAD_DIR)); // 디렉토리 생성
-            String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
-            Path filePath = Paths.get(UPLOAD_DIR + fileName);
-            Files.write(filePath, file.getBytes());
-            return filePath.toString();
+            Files.createDirectories(uploadDir); // 디렉토리 생성
+            Path filePath = uploadDir.resolve(UUID.randomUUID() + "-" + file.getOriginalFilename());
+            try {
+                return writer.write(file, filePath);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(filePath);
+                throw e;
+            }
         } catch (IOException e) {
             throw new RuntimeException("파일 저장 실패", e);
         }
     }
 
     @Override
+    @Timed("notice.file.delete")
     public void delete(String filePath) {
         if (filePath == null || filePath.isEmpty()) {
             throw new IllegalArgumentException("파일 경로가 비어 있습니다.");
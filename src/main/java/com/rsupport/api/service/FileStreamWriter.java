@@ -0,0 +1,68 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.dto.UploadedFileDto;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 업로드 파일을 디스크에 기록
+ * 파일 전체를 힙에 올리지 않고 고정 크기 버퍼로 스트리밍하면서 SHA-256 체크섬을 함께 계산
+ */
+final class FileStreamWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BUFFER_POOL_SIZE = 16;
+
+    // 업로드마다 direct buffer를 새로 할당하지 않도록 고정 크기 버퍼를 재사용
+    private final BlockingQueue<ByteBuffer> bufferPool = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+
+    UploadedFileDto write(MultipartFile file, Path filePath) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = acquireBuffer();
+        long size = 0;
+        try (ReadableByteChannel in = Channels.newChannel(file.getInputStream());
+             FileChannel out = FileChannel.open(filePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                size += buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            releaseBuffer(buffer);
+        }
+        return new UploadedFileDto(filePath.toString(), size, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = bufferPool.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        bufferPool.offer(buffer); // 풀이 가득 차면 버림
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.repository.NoticeViewCountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.jctools.maps.NonBlockingHashMapLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 노드 메모리에 조회수를 누적하고 주기적으로 일괄 반영 (조회 시 네트워크 왕복 없음)
+ * 공지 id를 long 그대로 키로 사용하는 lock-free 맵과 스트라이프 카운터(LongAdder)로 동시 조회 경합을 줄임
+ * 반영 대상: notice.view-count.local.drain-target=redis (기본값, 파이프라인 INCRBY) 또는 db (JDBC 배치)
+ * 한 반영 주기 동안 조회가 없던 공지의 카운터는 맵에서 제거하여, 조회된 적 있는 모든 공지의 카운터가 계속 남지 않도록 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notice.view-count.mode", havingValue = "local")
+public class LocalViewCountAccumulator implements ViewCountAccumulator, MeterBinder {
+    private final NonBlockingHashMapLong<Counter> counters = new NonBlockingHashMapLong<>();
+    private List<Counter> retired = new ArrayList<>(); // 지난 반영에서 맵에서 제거한 카운터, 반영 스레드에서만 접근
+
+    private final StringRedisTemplate redisTemplate;
+    private final NoticeViewCountRepository noticeViewCountRepository;
+    private final DrainTarget drainTarget;
+
+    enum DrainTarget {
+        REDIS, DB
+    }
+
+    public LocalViewCountAccumulator(StringRedisTemplate redisTemplate,
+                                     NoticeViewCountRepository noticeViewCountRepository,
+                                     @Value("${notice.view-count.local.drain-target:redis}") String drainTarget) {
+        this.redisTemplate = redisTemplate;
+        this.noticeViewCountRepository = noticeViewCountRepository;
+        this.drainTarget = DrainTarget.valueOf(drainTarget.toUpperCase());
+    }
+
+    @Override
+    public void increment(long noticeId) {
+        Counter counter = counters.get(noticeId);
+        if (counter == null) {
+            Counter created = new Counter(noticeId);
+            counter = counters.putIfAbsent(noticeId, created);
+            if (counter == null) counter = created;
+        }
+        counter.views.increment();
+    }
+
+    /**
+     * 지난 반영 이후 누적된 조회수를 일괄 반영
+     * 카운터를 초기화하지 않고 반영한 누계(drained)와의 차이만 보내므로, 반영 중에 들어온 조회도 유실되지 않음
+     * 증분이 없는 카운터는 맵에서 제거하고, 제거 직전에 카운터를 얻은 조회가 있을 수 있으므로 다음 반영에서 한 번 더 확인한 뒤 버림
+     */
+    @Scheduled(fixedDelayString = "${notice.view-count.local.drain-interval-ms:1000}")
+    public synchronized void drain() {
+        List<Counter> retiring = retired;
+        retired = new ArrayList<>();
+
+        Map<Counter, Long> drainedCounters = new HashMap<>();
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Counter counter : counters.values()) {
+            if (!collect(counter, drainedCounters, deltas) && counters.remove(counter.noticeId, counter)) {
+                retired.add(counter);
+            }
+        }
+        retiring.forEach(counter -> collect(counter, drainedCounters, deltas)); // 같은 공지의 새 카운터와 합산
+        if (deltas.isEmpty()) return;
+
+        try {
+            write(deltas);
+        } catch (RuntimeException e) {
+            // 반영 실패한 증분은 다음 주기에 다시 반영
+            drainedCounters.forEach((counter, delta) -> counter.drained -= delta);
+            retired.addAll(retiring);
+            log.warn("조회수 일괄 반영 실패: {}건", deltas.size(), e);
+        }
+    }
+
+    /**
+     * 카운터의 증분을 반영 대상에 추가
+     * @return 증분이 있으면 true
+     */
+    private static boolean collect(Counter counter, Map<Counter, Long> drainedCounters, Map<Long, Long> deltas) {
+        long total = counter.views.sum();
+        long delta = total - counter.drained;
+        if (delta <= 0) return false;
+
+        counter.drained = total;
+        drainedCounters.put(counter, delta);
+        deltas.merge(counter.noticeId, delta, Long::sum);
+        return true;
+    }
+
+    /**
+     * 노드 메모리에서 조회수를 누적 중인 공지 수
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notice.view_count.local.counters", counters, NonBlockingHashMapLong::size)
+                .description("노드 메모리에서 조회수를 누적 중인 공지 수")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void close() {
+        drain();
+    }
+
+    /**
+     * 인기 공지 bucket은 반영 시각 기준으로 함께 증가 (drain 주기만큼 늦게 반영)
+     */
+    private void write(Map<Long, Long> deltas) {
+        Instant now = Instant.now();
+        if (drainTarget == DrainTarget.DB) {
+            noticeViewCountRepository.addViewCounts(deltas);
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    deltas.forEach((noticeId, delta) -> TrendingBuckets.increment(connection, noticeId, delta, now));
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                // DB에는 반영했으므로 다시 반영하지 않도록 인기 공지 집계만 건너뜀
+                log.warn("인기 공지 집계 반영 실패: {}건", deltas.size(), e);
+            }
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((noticeId, delta) -> {
+                RedisViewCountAccumulator.incrementBy(connection, noticeId, delta);
+                TrendingBuckets.increment(connection, noticeId, delta, now);
+            });
+            return null;
+        });
+    }
+
+    private static final class Counter {
+        private final long noticeId;
+        private final LongAdder views = new LongAdder();
+        private long drained; // 반영 스레드에서만 접근
+
+        private Counter(long noticeId) {
+            this.noticeId = noticeId;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.rsupport.api.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 공지사항 검색용 n-gram 토크나이저
+ * 공백/구두점 기준으로 단어를 나눈 뒤 단어마다 n-gram을 생성하므로 형태소 분석 없이도 한글 부분 검색이 가능
+ */
+public final class NGramTokenizer {
+    public static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 n-gram 토큰으로 분리
+     * @param text 원문
+     * @return 토큰별 출현 횟수
+     */
+    public static Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> tokens = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+                tokens.merge(new String(codePoints, i, GRAM_SIZE), 1, Integer::sum);
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,13 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.dto.enums.DataFormat;
+import com.rsupport.api.dto.enums.SearchType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface NoticeExportService {
+    void exportNotices(DataFormat format, SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to,
+                       OutputStream out) throws IOException;
+}
@@ -0,0 +1,63 @@
+package com.rsupport.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rsupport.api.dto.NoticeExportDto;
+import com.rsupport.api.dto.enums.DataFormat;
+import com.rsupport.api.dto.enums.SearchType;
+import com.rsupport.api.repository.NoticeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공지사항 내보내기
+ * chunk-size 행씩 (createdAt, id) keyset으로 끊어 읽고, chunk마다 짧은 읽기 전용 트랜잭션을 사용
+ * 응답에 쓰는 동안에는 DB 커넥션을 잡지 않으므로 느린 클라이언트가 커넥션 풀을 점유하지 않음
+ * 하나의 스냅샷이 아니므로 내보내는 도중 등록된 공지는 포함되지 않을 수 있음
+ */
+@Service
+public class NoticeExportServiceImpl implements NoticeExportService {
+    private final NoticeRepository noticeRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public NoticeExportServiceImpl(NoticeRepository noticeRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper,
+                                   @Value("${notice.export.chunk-size:500}") int chunkSize) {
+        this.noticeRepository = noticeRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void exportNotices(DataFormat format, SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to,
+                              OutputStream out) throws IOException {
+        LocalDateTime today = LocalDateTime.now(); // chunk마다 게시 기간 기준이 달라지지 않도록 고정
+        try (NoticeExportWriter writer = NoticeExportWriter.of(format, out, objectMapper)) {
+            NoticeExportDto last = null;
+            List<NoticeExportDto> chunk;
+            do {
+                LocalDateTime cursorCreatedAt = last == null ? null : last.getCreatedAt();
+                Long cursorId = last == null ? null : last.getId();
+                chunk = readOnlyTransactionTemplate.execute(status -> noticeRepository.findExportChunk(
+                        searchType, keyword, from, to, today, cursorCreatedAt, cursorId, chunkSize));
+                for (NoticeExportDto notice : chunk) {
+                    writer.write(notice);
+                }
+                if (!chunk.isEmpty()) {
+                    last = chunk.get(chunk.size() - 1);
+                }
+            } while (chunk.size() == chunkSize);
+        }
+    }
+}
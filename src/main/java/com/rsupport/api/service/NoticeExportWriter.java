@@ -0,0 +1,103 @@
+package com.rsupport.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.rsupport.api.dto.NoticeExportDto;
+import com.rsupport.api.dto.enums.DataFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 내보내기 행을 응답 스트림에 바로 씀 (행 단위로 버퍼링하지 않음)
+ * CSV 헤더는 일괄 등록의 컬럼 이름과 같아서 내보낸 파일을 그대로 다시 등록할 수 있음
+ */
+abstract class NoticeExportWriter implements Closeable {
+    protected final Writer writer;
+
+    protected NoticeExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    static NoticeExportWriter of(DataFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return format == DataFormat.CSV
+                ? new CsvWriter(out)
+                : new NdjsonWriter(out, objectMapper);
+    }
+
+    abstract void write(NoticeExportDto notice) throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        writer.flush(); // 응답 스트림은 컨테이너가 닫음
+    }
+
+    private static class NdjsonWriter extends NoticeExportWriter {
+        private final SequenceWriter sequenceWriter;
+        private boolean written;
+
+        NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            super(out);
+            this.sequenceWriter = objectMapper.writerFor(NoticeExportDto.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(writer);
+        }
+
+        @Override
+        void write(NoticeExportDto notice) throws IOException {
+            sequenceWriter.write(notice);
+            written = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            sequenceWriter.flush(); // JSON 생성기 버퍼를 먼저 비움
+            if (written) {
+                writer.write('\n'); // 구분자는 행 사이에만 쓰이므로 마지막 행의 줄바꿈을 추가
+            }
+            super.close();
+        }
+    }
+
+    private static class CsvWriter extends NoticeExportWriter {
+        private static final String HEADER = "id,title,content,author,createdAt,startAt,endAt,viewCount\n";
+
+        CsvWriter(OutputStream out) throws IOException {
+            super(out);
+            writer.write(HEADER);
+        }
+
+        @Override
+        void write(NoticeExportDto notice) throws IOException {
+            writer.write(String.valueOf(notice.getId()));
+            writeField(notice.getTitle());
+            writeField(notice.getContent());
+            writeField(notice.getAuthor());
+            writeField(Objects.toString(notice.getCreatedAt(), ""));
+            writeField(Objects.toString(notice.getStartAt(), ""));
+            writeField(Objects.toString(notice.getEndAt(), ""));
+            writeField(String.valueOf(notice.getViewCount()));
+            writer.write('\n');
+        }
+
+        /**
+         * 쉼표, 따옴표, 줄바꿈이 있는 필드는 따옴표로 감싸고 따옴표는 "" 로 씀 (RFC 4180)
+         */
+        private void writeField(String value) throws IOException {
+            writer.write(',');
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.rsupport.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.rsupport.api.dto.NoticeRequestDto;
+import com.rsupport.api.dto.enums.DataFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일괄 등록 요청 본문을 한 행씩 읽음
+ * 본문 전체를 메모리에 올리지 않고, 형식이 잘못된 행은 오류 행으로 돌려주고 다음 행을 계속 읽음
+ */
+abstract class NoticeImportReader implements Closeable {
+    protected final BufferedReader reader;
+    private int rowNumber;
+
+    protected NoticeImportReader(InputStream body) {
+        this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    static NoticeImportReader of(DataFormat format, InputStream body, ObjectMapper objectMapper) throws IOException {
+        return format == DataFormat.CSV
+                ? new CsvReader(body)
+                : new NdjsonReader(body, objectMapper);
+    }
+
+    /**
+     * 다음 행, 더 이상 없으면 null
+     */
+    Row next() throws IOException {
+        while (true) {
+            List<String> fields;
+            try {
+                fields = readRecord();
+            } catch (IllegalArgumentException e) {
+                return Row.failed(++rowNumber, e.getMessage());
+            }
+            if (fields == null) return null;
+            if (fields.size() == 1 && fields.get(0).isBlank()) continue; // 빈 줄
+
+            int number = ++rowNumber;
+            try {
+                return Row.parsed(number, parse(fields));
+            } catch (IllegalArgumentException e) {
+                return Row.failed(number, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 한 레코드를 필드 단위로 읽음, 본문 끝이면 null
+     */
+    protected abstract List<String> readRecord() throws IOException;
+
+    protected abstract NoticeRequestDto parse(List<String> fields);
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    record Row(int number, NoticeRequestDto request, String error) {
+        static Row parsed(int number, NoticeRequestDto request) {
+            return new Row(number, request, null);
+        }
+
+        static Row failed(int number, String error) {
+            return new Row(number, null, error);
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나 (title, content, startAt, endAt)
+     */
+    private static class NdjsonReader extends NoticeImportReader {
+        private final ObjectReader objectReader;
+
+        NdjsonReader(InputStream body, ObjectMapper objectMapper) {
+            super(body);
+            this.objectReader = objectMapper.readerFor(NoticeRequestDto.class);
+        }
+
+        @Override
+        protected List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            return line == null ? null : List.of(line);
+        }
+
+        @Override
+        protected NoticeRequestDto parse(List<String> fields) {
+            try {
+                return objectReader.readValue(fields.get(0));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * RFC 4180 CSV, 첫 행은 헤더 (title, content, startAt, endAt 순서는 자유)
+     * 따옴표로 감싼 필드에는 쉼표/줄바꿈/"" (따옴표) 를 쓸 수 있음
+     */
+    private static class CsvReader extends NoticeImportReader {
+        private static final List<String> COLUMNS = List.of("title", "content", "startAt", "endAt");
+
+        private final int[] columnIndexes = new int[COLUMNS.size()];
+
+        CsvReader(InputStream body) throws IOException {
+            super(body);
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+            }
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                columnIndexes[i] = header.indexOf(COLUMNS.get(i));
+                if (columnIndexes[i] < 0) {
+                    throw new IllegalArgumentException("CSV 헤더에 " + COLUMNS.get(i) + " 컬럼이 없습니다.");
+                }
+            }
+        }
+
+        @Override
+        protected List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) return null;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+                    }
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        @Override
+        protected NoticeRequestDto parse(List<String> fields) {
+            NoticeRequestDto request = new NoticeRequestDto();
+            request.setTitle(column(fields, 0));
+            request.setContent(column(fields, 1));
+            request.setStartAt(toDateTime(column(fields, 2)));
+            request.setEndAt(toDateTime(column(fields, 3)));
+            return request;
+        }
+
+        private String column(List<String> fields, int column) {
+            int index = columnIndexes[column];
+            return index < fields.size() ? fields.get(index) : null;
+        }
+
+        private LocalDateTime toDateTime(String value) {
+            if (value == null || value.isBlank()) return null; // 필수 여부는 검증 단계에서 확인
+            try {
+                return LocalDateTime.parse(value.trim());
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다: " + value);
+            }
+        }
+    }
+}
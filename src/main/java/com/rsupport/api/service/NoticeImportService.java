@@ -0,0 +1,11 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.dto.NoticeImportResultDto;
+import com.rsupport.api.dto.enums.DataFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface NoticeImportService {
+    NoticeImportResultDto importNotices(DataFormat format, InputStream body) throws IOException;
+}
@@ -0,0 +1,166 @@
+package com.rsupport.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rsupport.api.dto.NoticeImportErrorDto;
+import com.rsupport.api.dto.NoticeImportResultDto;
+import com.rsupport.api.dto.NoticeRequestDto;
+import com.rsupport.api.dto.enums.DataFormat;
+import com.rsupport.api.dto.validation.RegisterRequestValidationGroup;
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.entity.User;
+import com.rsupport.api.event.NoticesImportedEvent;
+import com.rsupport.api.identity.CurrentUserProvider;
+import com.rsupport.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공지사항 일괄 등록
+ * 본문을 한 행씩 읽어 검증하고, 통과한 행을 chunk-size 단위 트랜잭션으로 저장 (JDBC 배치 INSERT)
+ * 한 chunk 저장에 실패하면 해당 chunk의 행만 실패로 보고하고 다음 chunk를 계속 저장함
+ * 저장을 마치면 등록한 공지 id를 모아 변경 이벤트(NoticesImportedEvent)를 한 번 발행
+ */
+@Slf4j
+@Service
+public class NoticeImportServiceImpl implements NoticeImportService {
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CurrentUserProvider currentUserProvider;
+    private final UserRepository userRepository;
+    private final NoticeSearchService noticeSearchService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public NoticeImportServiceImpl(CurrentUserProvider currentUserProvider,
+                                   UserRepository userRepository,
+                                   NoticeSearchService noticeSearchService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   TransactionTemplate transactionTemplate,
+                                   Validator validator,
+                                   ObjectMapper objectMapper,
+                                   @Value("${notice.import.chunk-size:1000}") int chunkSize) {
+        this.currentUserProvider = currentUserProvider;
+        this.userRepository = userRepository;
+        this.noticeSearchService = noticeSearchService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public NoticeImportResultDto importNotices(DataFormat format, InputStream body) throws IOException {
+        Long userId = currentUserProvider.getCurrentUserId();
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자 정보를 찾을 수 없습니다.");
+        }
+
+        Report report = new Report();
+        List<NoticeImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        try (NoticeImportReader reader = NoticeImportReader.of(format, body, objectMapper)) {
+            for (NoticeImportReader.Row row = reader.next(); row != null; row = reader.next()) {
+                report.total++;
+                if (row.error() != null) {
+                    report.reject(row.number(), List.of(row.error()));
+                    continue;
+                }
+
+                List<String> violations = validator.validate(row.request(), RegisterRequestValidationGroup.class).stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .toList();
+                if (!violations.isEmpty()) {
+                    report.reject(row.number(), violations);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    insertChunk(chunk, userId, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, userId, report);
+        }
+
+        // 모든 chunk가 커밋된 이후 트랜잭션 밖에서 발행하므로 리스너가 즉시 처리함
+        if (!report.noticeIds.isEmpty()) {
+            eventPublisher.publishEvent(NoticesImportedEvent.of(List.copyOf(report.noticeIds)));
+        }
+        return report.toDto();
+    }
+
+    private void insertChunk(List<NoticeImportReader.Row> rows, Long userId, Report report) {
+        try {
+            List<Long> noticeIds = transactionTemplate.execute(status -> {
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE); // 대량 등록한 공지로 2차 캐시를 채우지 않음
+                User author = entityManager.getReference(User.class, userId);
+                List<Notice> notices = rows.stream()
+                        .map(row -> toNotice(row.request(), author))
+                        .toList();
+                notices.forEach(entityManager::persist);
+                entityManager.flush();
+                noticeSearchService.indexAll(notices);
+                entityManager.clear(); // chunk마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+                return notices.stream().map(Notice::getId).toList();
+            });
+            report.imported += rows.size();
+            report.noticeIds.addAll(noticeIds);
+        } catch (RuntimeException e) {
+            log.warn("공지사항 일괄 등록 chunk 저장 실패: rows={}~{}", rows.get(0).number(), rows.get(rows.size() - 1).number(), e);
+            rows.forEach(row -> report.reject(row.number(), List.of("저장에 실패했습니다.")));
+        }
+    }
+
+    private Notice toNotice(NoticeRequestDto request, User author) {
+        return Notice.builder()
+                .title(request.getTitle())
+                .content(request.getContent())
+                .startAt(request.getStartAt())
+                .endAt(request.getEndAt())
+                .author(author)
+                .viewCount(0)
+                .build();
+    }
+
+    private static class Report {
+        private int total;
+        private int imported;
+        private int failed;
+        private final List<NoticeImportErrorDto> errors = new ArrayList<>();
+        private final List<Long> noticeIds = new ArrayList<>();
+
+        void reject(int row, List<String> messages) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) { // 잘못된 파일에서도 응답 크기가 무한히 커지지 않도록 제한
+                errors.add(new NoticeImportErrorDto(row, messages));
+            }
+        }
+
+        NoticeImportResultDto toDto() {
+            return new NoticeImportResultDto(total, imported, failed, errors);
+        }
+    }
+}
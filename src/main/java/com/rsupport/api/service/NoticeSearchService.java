@@ -0,0 +1,12 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.entity.Notice;
+
+import java.util.List;
+
+public interface NoticeSearchService {
+    void index(Notice notice);
+    void indexAll(List<Notice> notices);
+    void reindexMissing();
+    void remove(Long noticeId);
+}
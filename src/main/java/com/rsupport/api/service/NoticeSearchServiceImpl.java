@@ -0,0 +1,111 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.entity.enums.SearchField;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * n-gram 역색인 갱신 (검색 쿼리는 NoticeRepositoryCustom에서 역색인과 LIKE를 함께 사용)
+ * 색인은 공지사항 등록/수정/삭제 트랜잭션 안에서 함께 갱신하고, 그 밖의 경로(JDBC 적재 등)로 저장된 공지는 주기적으로 색인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoticeSearchServiceImpl implements NoticeSearchService {
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int REINDEX_CHUNK_SIZE = 1_000;
+
+    private static final String INSERT_TOKEN_SQL =
+            "INSERT INTO NOTICE_SEARCH_TOKEN (TOKEN, FIELD, NOTICE_ID, WEIGHT) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_TOKENS_SQL =
+            "DELETE FROM NOTICE_SEARCH_TOKEN WHERE NOTICE_ID = ?";
+    private static final String SELECT_UNINDEXED_SQL =
+            "SELECT N.ID, N.TITLE, N.CONTENT FROM NOTICE N " +
+            "WHERE N.ID > ? AND NOT EXISTS (SELECT 1 FROM NOTICE_SEARCH_TOKEN T WHERE T.NOTICE_ID = N.ID) " +
+            "ORDER BY N.ID LIMIT ?";
+
+    @Override
+    public void index(Notice notice) {
+        remove(notice.getId());
+
+        List<Object[]> rows = new ArrayList<>();
+        addTokenRows(notice.getId(), notice.getTitle(), notice.getContent(), rows);
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+        }
+    }
+
+    /**
+     * 새로 저장한 공지사항을 한 번의 배치로 색인 (기존 색인이 없으므로 삭제하지 않음)
+     */
+    @Override
+    public void indexAll(List<Notice> notices) {
+        List<Object[]> rows = new ArrayList<>();
+        notices.forEach(notice -> addTokenRows(notice.getId(), notice.getTitle(), notice.getContent(), rows));
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+        }
+    }
+
+    /**
+     * 색인이 없는 공지사항을 id 순으로 나누어 색인 (기동 직후 1회, 이후 주기적으로 실행)
+     * 토큰을 만들 수 없는 공지(한 글자 제목/내용)는 색인이 생기지 않으므로 매번 다시 확인됨
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${notice.search.reindex-interval-ms:300000}",
+            fixedDelayString = "${notice.search.reindex-interval-ms:300000}")
+    @Override
+    public void reindexMissing() {
+        int indexed = 0;
+        long lastId = 0;
+        while (true) {
+            List<Object[]> notices = jdbcTemplate.query(SELECT_UNINDEXED_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)},
+                    lastId, REINDEX_CHUNK_SIZE);
+            if (notices.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> rows = new ArrayList<>();
+            notices.forEach(notice -> addTokenRows((Long) notice[0], (String) notice[1], (String) notice[2], rows));
+            try {
+                if (!rows.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, rows);
+                }
+                indexed += notices.size();
+            } catch (DataIntegrityViolationException e) {
+                // 조회 이후 수정 트랜잭션이 먼저 색인한 경우 (다음 실행에서 남은 공지를 다시 확인)
+                log.warn("공지사항 색인 중 이미 색인된 공지가 있어 건너뜀: {}", e.getMessage());
+            }
+            lastId = (Long) notices.get(notices.size() - 1)[0];
+        }
+        if (indexed > 0) {
+            log.info("색인이 없는 공지사항 {}건 색인", indexed);
+        }
+    }
+
+    private void addTokenRows(Long noticeId, String title, String content, List<Object[]> rows) {
+        NGramTokenizer.tokenize(title).forEach((token, count) ->
+                rows.add(new Object[]{token, SearchField.TITLE.name(), noticeId, count * TITLE_WEIGHT}));
+        NGramTokenizer.tokenize(content).forEach((token, count) ->
+                rows.add(new Object[]{token, SearchField.CONTENT.name(), noticeId, count * CONTENT_WEIGHT}));
+    }
+
+    @Override
+    public void remove(Long noticeId) {
+        jdbcTemplate.update(DELETE_TOKENS_SQL, noticeId);
+    }
+}
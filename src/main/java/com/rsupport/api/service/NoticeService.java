@@ -1,7 +1,11 @@
 package com.rsupport.api.service;
 
+import com.rsupport.api.dto.AttachmentFileDto;
 import com.rsupport.api.dto.NoticeDetailResponseDto;
 import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeListVersionDto;
+import com.rsupport.api.dto.NoticeSliceResponseDto;
+import com.rsupport.api.dto.NoticeVersionDto;
 import com.rsupport.api.dto.enums.SearchType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,11 +14,17 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 public interface NoticeService {
     Page<NoticeListResponseDto> getNotices(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, Pageable pageable);
+    NoticeSliceResponseDto getNoticesByCursor(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, String cursor, int size);
+    Optional<NoticeListVersionDto> getNoticesVersion(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, Pageable pageable);
     NoticeDetailResponseDto getNotice(Long id);
+    NoticeVersionDto getNoticeVersion(Long id);
+    void recordView(Long id);
+    AttachmentFileDto getAttachment(Long noticeId, Long attachmentId);
     void saveNotice(String title, String content, LocalDateTime startAt, LocalDateTime endAt, List<MultipartFile> files);
     void updateNotice(Long id, String title, String content, LocalDateTime startAt, LocalDateTime endAt, List<MultipartFile> files);
     void deleteNotice(Long id);
@@ -1,147 +1,294 @@
 package com.rsupport.api.service;
 
+import com.rsupport.api.cache.ActiveNoticeRegistry;
+import com.rsupport.api.cache.NoticeDetailCache;
+import com.rsupport.api.dto.AttachmentFileDto;
+import com.rsupport.api.dto.NoticeCursor;
 import com.rsupport.api.dto.NoticeDetailResponseDto;
 import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeListVersionDto;
+import com.rsupport.api.dto.NoticeSliceResponseDto;
+import com.rsupport.api.dto.NoticeVersionDto;
+import com.rsupport.api.dto.UploadedFileDto;
 import com.rsupport.api.dto.enums.SearchType;
 import com.rsupport.api.entity.Attachment;
 import com.rsupport.api.entity.Notice;
 import com.rsupport.api.entity.User;
+import com.rsupport.api.event.AttachmentFilesReleasedEvent;
+import com.rsupport.api.event.NoticeChangeType;
+import com.rsupport.api.event.NoticeChangedEvent;
+import com.rsupport.api.identity.CurrentUserProvider;
 import com.rsupport.api.repository.AttachmentRepository;
 import com.rsupport.api.repository.NoticeRepository;
 import com.rsupport.api.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Transactional
+@Timed("notice.service") // 메서드별 응답 시간 (method 태그)
 @RequiredArgsConstructor
 public class NoticeServiceImpl implements NoticeService {
-    private final HttpSession session;
+    private static final TransactionDefinition READ_ONLY = readOnlyDefinition();
+
+    private final CurrentUserProvider currentUserProvider;
 
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
     private final AttachmentRepository attachmentRepository;
 
-    private final FileService fileService;
-    private final StringRedisTemplate redisTemplate;
+    private final AttachmentUploader attachmentUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final NoticeSearchService noticeSearchService;
+    private final NoticeDetailCache noticeDetailCache;
+    private final ActiveNoticeRegistry activeNoticeRegistry;
+    private final ViewCountService viewCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final String VIEW_KEY_PREFIX = "notice:view:";
+    /**
+     * 공지사항 목록 조회
+     * 검색 조건이 없는 기본 목록은 게시 중인 공지 목록(메모리)에서 응답하므로 트랜잭션(DB 커넥션)을 시작하지 않고,
+     * 그 외에는 읽기 전용 트랜잭션(replica)에서 조회
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Page<NoticeListResponseDto> getNotices(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (isServedByRegistry(searchType, from, to, pageable)) {
+            return activeNoticeRegistry.getPage(pageable);
+        }
+        return readOnly(status -> noticeRepository.searchNotices(searchType, keyword, from, to, LocalDateTime.now(), pageable));
+    }
 
-    private Long getCurrentUserId() {
-        return Optional.ofNullable((Long) session.getAttribute("userId"))
-                .orElseThrow(() -> new IllegalArgumentException("세션에서 사용자 정보를 찾을 수 없습니다."));
+    /**
+     * 목록 조건부 조회용 집계 버전 (키워드 검색은 집계 비용이 크므로 지원하지 않음)
+     * 게시 중인 공지 목록(메모리)에서 응답하는 목록은 같은 목록에서 집계하여 DB 집계 쿼리를 실행하지 않음
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<NoticeListVersionDto> getNoticesVersion(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        if (searchType != null && keyword != null) {
+            return Optional.empty();
+        }
+        if (isServedByRegistry(searchType, from, to, pageable)) {
+            return Optional.of(activeNoticeRegistry.getVersion());
+        }
+        return Optional.of(readOnly(status -> noticeRepository.aggregateNotices(from, to, LocalDateTime.now())));
     }
 
     @Override
-    public Page<NoticeListResponseDto> getNotices(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, Pageable pageable) {
-        return noticeRepository.searchNotices(Optional.ofNullable(searchType).map(Enum::toString).orElse(null), keyword, from, to, LocalDateTime.now(), pageable)
-                .map(NoticeListResponseDto::new);
+    @Transactional(readOnly = true)
+    public NoticeSliceResponseDto getNoticesByCursor(SearchType searchType, String keyword, LocalDateTime from, LocalDateTime to, String cursor, int size) {
+        Optional<NoticeCursor> after = Optional.ofNullable(NoticeCursor.decode(cursor));
+        Slice<NoticeListResponseDto> slice = noticeRepository.scrollNotices(
+                searchType, keyword, from, to, LocalDateTime.now(),
+                after.map(NoticeCursor::getCreatedAt).orElse(null), after.map(NoticeCursor::getId).orElse(null),
+                PageRequest.of(0, size));
+
+        List<NoticeListResponseDto> content = slice.getContent();
+        String nextCursor = slice.hasNext() ? NoticeCursor.of(content.get(content.size() - 1)).encode() : null;
+        return new NoticeSliceResponseDto(content, slice.hasNext(), nextCursor);
     }
 
+    /**
+     * 공지사항 상세 조회
+     * 캐시에 있으면 DB 커넥션 없이 응답하도록 트랜잭션을 시작하지 않음
+     */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public NoticeDetailResponseDto getNotice(Long id) {
-        Notice notice = noticeRepository.findById(id)
+        NoticeDetailResponseDto notice = noticeDetailCache.get(id)
+                .orElseGet(() -> loadNotice(id));
+        viewCountService.increment(id);
+        return notice;
+    }
+
+    /**
+     * 상세 조건부 조회용 버전
+     * 캐시에 있으면 캐시된 응답의 버전을, 없으면 작성자/첨부파일 없이 버전 컬럼만 조회
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public NoticeVersionDto getNoticeVersion(Long id) {
+        return noticeDetailCache.get(id)
+                .map(NoticeVersionDto::new)
+                .or(() -> readOnly(status -> noticeRepository.findVersionById(id)))
                 .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
-        redisTemplate.opsForValue().increment(VIEW_KEY_PREFIX + id, 1);
-        return new NoticeDetailResponseDto(notice);
     }
 
+    /**
+     * 본문 없이 응답한 상세 조회(304)의 조회수 증가
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordView(Long id) {
+        viewCountService.increment(id);
+    }
+
+    /**
+     * 검색 조건이 없는 기본 목록은 게시 중인 공지 목록(메모리)에서 응답
+     */
+    private boolean isServedByRegistry(SearchType searchType, LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return searchType == null && from == null && to == null && activeNoticeRegistry.supports(pageable);
+    }
+
+    private <T> T readOnly(TransactionCallback<T> action) {
+        return new TransactionTemplate(transactionTemplate.getTransactionManager(), READ_ONLY).execute(action);
+    }
+
+    /**
+     * 2차 캐시에서 읽은 공지사항은 작성자/첨부파일이 초기화되지 않은 상태이므로 같은 트랜잭션에서 DTO로 변환 (캐시에서 초기화)
+     * 읽은 결과로 상세 캐시(노드 간 공유)를 채우므로, 복제 지연으로 수정 전 내용이 캐시되지 않도록 읽기 전용 트랜잭션(replica)을 사용하지 않음
+     */
+    private NoticeDetailResponseDto loadNotice(Long id) {
+        long generation = noticeDetailCache.generation();
+        NoticeDetailResponseDto notice = transactionTemplate.execute(status -> noticeRepository.findById(id)
+                .map(NoticeDetailResponseDto::new)
+                .orElse(null));
+        if (notice == null) {
+            throw new IllegalArgumentException("공지사항을 찾을 수 없습니다.");
+        }
+        noticeDetailCache.put(notice, generation);
+        return notice;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentFileDto getAttachment(Long noticeId, Long attachmentId) {
+        return attachmentRepository.findByIdAndNoticeId(attachmentId, noticeId)
+                .map(AttachmentFileDto::new)
+                .orElseThrow(() -> new IllegalArgumentException("첨부파일을 찾을 수 없습니다."));
+    }
+
+    /**
+     * 첨부파일은 트랜잭션 밖에서 병렬로 저장하고, 트랜잭션에서는 메타데이터만 저장
+     * 메타데이터 저장에 실패하면 저장한 파일을 정리
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void saveNotice(String title, String content, LocalDateTime startAt, LocalDateTime endAt, List<MultipartFile> files) {
-        User user = userRepository.findById(getCurrentUserId())
-                .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
-
-        Notice notice = noticeRepository.save(Notice.builder()
-                .title(title)
-                .content(content)
-                .startAt(startAt)
-                .endAt(endAt)
-                .author(user)
-                .viewCount(0)
-                .build());
-
-        if (files != null && !files.isEmpty()) {
-            List<Attachment> attachments = files.stream()
-                    .map(file -> new Attachment(null, file.getOriginalFilename(), fileService.upload(file), notice))
-                    .collect(Collectors.toList());
-            attachmentRepository.saveAll(attachments);
-            notice.setAttachments(attachments);
+        Long userId = currentUserProvider.getCurrentUserId();
+        List<UploadedFileDto> uploaded = attachmentUploader.uploadAll(files);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new IllegalArgumentException("사용자 정보를 찾을 수 없습니다."));
+
+                Notice notice = noticeRepository.save(Notice.builder()
+                        .title(title)
+                        .content(content)
+                        .startAt(startAt)
+                        .endAt(endAt)
+                        .author(user)
+                        .viewCount(0)
+                        .build());
+                noticeSearchService.index(notice);
+                eventPublisher.publishEvent(NoticeChangedEvent.of(notice.getId(), NoticeChangeType.CREATED));
+
+                if (!uploaded.isEmpty()) {
+                    List<Attachment> attachments = toAttachments(files, uploaded, notice);
+                    attachmentRepository.saveAll(attachments);
+                    notice.setAttachments(attachments);
+                }
+            });
+        } catch (RuntimeException e) {
+            attachmentUploader.deleteAll(uploaded);
+            throw e;
         }
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void updateNotice(Long id, String title, String content, LocalDateTime startAt, LocalDateTime endAt, List<MultipartFile> files) {
-        Notice notice = noticeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
+        List<UploadedFileDto> uploaded = attachmentUploader.uploadAll(files);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Notice notice = noticeRepository.findById(id)
+                        .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
 
-        Optional.ofNullable(title).filter(s -> !s.isEmpty()).ifPresent(notice::setTitle);
-        Optional.ofNullable(content).filter(s -> !s.isEmpty()).ifPresent(notice::setContent);
-        Optional.ofNullable(startAt).ifPresent(notice::setStartAt);
-        Optional.ofNullable(endAt).ifPresent(notice::setEndAt);
-
-        if (files != null && !files.isEmpty()) {
-            // 기존 첨부파일 컬렉션의 참조를 유지한 채 내용을 교체
-            notice.getAttachments().clear(); // 기존 첨부파일 삭제(삭제쿼리 실행)
-            List<Attachment> attachments = files.stream()
-                    .map(file -> new Attachment(null, file.getOriginalFilename(), fileService.upload(file), notice))
-                    .toList();
-            notice.getAttachments().addAll(attachments); // 기존 컬렉션에 추가
+                Optional.ofNullable(title).filter(s -> !s.isEmpty()).ifPresent(notice::setTitle);
+                Optional.ofNullable(content).filter(s -> !s.isEmpty()).ifPresent(notice::setContent);
+                Optional.ofNullable(startAt).ifPresent(notice::setStartAt);
+                Optional.ofNullable(endAt).ifPresent(notice::setEndAt);
+                notice.setUpdatedAt(LocalDateTime.now()); // 변경 내용이 없어도 버전을 올려 ETag를 갱신
+                noticeSearchService.index(notice);
+                eventPublisher.publishEvent(NoticeChangedEvent.of(id, NoticeChangeType.UPDATED));
+
+                if (!uploaded.isEmpty()) {
+                    // 기존 첨부파일 컬렉션의 참조를 유지한 채 내용을 교체
+                    releaseFiles(notice.getAttachments());
+                    notice.getAttachments().clear(); // 기존 첨부파일 삭제(삭제쿼리 실행)
+                    notice.getAttachments().addAll(toAttachments(files, uploaded, notice)); // 기존 컬렉션에 추가
+                }
+            });
+        } catch (RuntimeException e) {
+            attachmentUploader.deleteAll(uploaded);
+            throw e;
         }
     }
 
+    /**
+     * 첨부파일 삭제는 커밋 이후로 미룸 (롤백되면 메타데이터는 남으므로 파일도 남겨둠)
+     */
+    private void releaseFiles(List<Attachment> attachments) {
+        if (attachments.isEmpty()) return;
+        eventPublisher.publishEvent(new AttachmentFilesReleasedEvent(attachments.stream()
+                .map(Attachment::getFileUrl)
+                .toList()));
+    }
+
+    private List<Attachment> toAttachments(List<MultipartFile> files, List<UploadedFileDto> uploaded, Notice notice) {
+        return IntStream.range(0, uploaded.size())
+                .mapToObj(i -> Attachment.builder()
+                        .fileName(files.get(i).getOriginalFilename())
+                        .fileUrl(uploaded.get(i).getPath())
+                        .fileSize(uploaded.get(i).getSize())
+                        .checksum(uploaded.get(i).getChecksum())
+                        .notice(notice)
+                        .build())
+                .collect(Collectors.toList());
+    }
 
     @Override
     public void deleteNotice(Long id) {
         Notice notice = noticeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("공지사항을 찾을 수 없습니다."));
 
-        // 첨부 파일 삭제
-        notice.getAttachments().forEach(attachment -> {
-            fileService.delete(attachment.getFileUrl());
-        });
+        // 첨부 파일 삭제 (파일은 커밋 이후 삭제)
+        releaseFiles(notice.getAttachments());
         attachmentRepository.deleteAll(notice.getAttachments());
+        noticeSearchService.remove(id);
+        eventPublisher.publishEvent(NoticeChangedEvent.of(id, NoticeChangeType.DELETED));
 
         // 공지사항 삭제
         noticeRepository.delete(notice);
     }
 
-    /**
-     * 일정 주기로 Redis의 조회수를 DB로 반영하는 메서드
-     */
-    @Scheduled(fixedRate = 600000) // 10분마다 실행 (600,000ms = 10분)
-    @Transactional
-    public void syncViewCountsToDB() {
-        Set<String> keys = redisTemplate.keys(VIEW_KEY_PREFIX + "*");
-        if (keys.isEmpty()) return;
-
-        for (String key : keys) {
-            String noticeIdStr = key.replace(VIEW_KEY_PREFIX, "");
-            Long noticeId = Long.parseLong(noticeIdStr);
-            Integer viewCount = Integer.valueOf(Objects.requireNonNull(redisTemplate.opsForValue().get(key)));
-            noticeRepository.findById(noticeId).ifPresent(notice -> {
-                notice.setViewCount(notice.getViewCount() + viewCount);
-                noticeRepository.save(notice);
-            });
-            // Redis에서 해당 조회수 키 삭제
-            redisTemplate.delete(key);
-        }
+    private static TransactionDefinition readOnlyDefinition() {
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setReadOnly(true);
+        return definition;
     }
 }
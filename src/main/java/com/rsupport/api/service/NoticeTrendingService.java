@@ -0,0 +1,10 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.dto.TrendingNoticeDto;
+import com.rsupport.api.dto.enums.TrendingWindow;
+
+import java.util.List;
+
+public interface NoticeTrendingService {
+    List<TrendingNoticeDto> getTrending(TrendingWindow window, int size);
+}
@@ -0,0 +1,107 @@
+package com.rsupport.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.TrendingNoticeDto;
+import com.rsupport.api.dto.enums.TrendingWindow;
+import com.rsupport.api.repository.NoticeRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.rsupport.api.service.RedisViewCountAccumulator.bytes;
+
+/**
+ * 인기 공지사항 조회
+ * 기간에 해당하는 시간 bucket(TrendingBuckets)을 ZUNIONSTORE로 합쳐 cache-ttl 동안 Redis에 두고(노드 간 공유),
+ * 상위 항목은 노드 메모리에도 cache-ttl 동안 보관
+ * 조회 비용은 기간 안에 조회된 공지 수와 bucket 수에만 비례하고 NOTICE 테이블 크기와 무관 (상위 N개 조회는 O(log n + N))
+ */
+@Service
+@Timed("notice.service")
+public class NoticeTrendingServiceImpl implements NoticeTrendingService {
+    static final int MAX_SIZE = 50;
+    private static final int OVERFETCH = 10; // 삭제된 공지가 상위에 남아 있어도 요청한 개수를 채우도록 더 읽음
+
+    private final StringRedisTemplate redisTemplate;
+    private final NoticeRepository noticeRepository;
+    private final Duration cacheTtl;
+    private final Cache<TrendingWindow, List<TrendingNoticeDto>> cache;
+
+    public NoticeTrendingServiceImpl(StringRedisTemplate redisTemplate,
+                                     NoticeRepository noticeRepository,
+                                     @Value("${notice.trending.cache-ttl:30s}") Duration cacheTtl) {
+        this.redisTemplate = redisTemplate;
+        this.noticeRepository = noticeRepository;
+        this.cacheTtl = cacheTtl;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    @Override
+    public List<TrendingNoticeDto> getTrending(TrendingWindow window, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+        }
+        List<TrendingNoticeDto> trending = cache.get(window, this::load);
+        return trending.subList(0, Math.min(size, trending.size()));
+    }
+
+    private List<TrendingNoticeDto> load(TrendingWindow window) {
+        String unionKey = TrendingBuckets.unionKey(window);
+        Set<TypedTuple<String>> top = readTop(unionKey);
+        if (top.isEmpty()) { // 합친 결과가 만료되었거나 기간 안의 조회가 없음
+            union(window, unionKey);
+            top = readTop(unionKey);
+        }
+        if (top.isEmpty()) return List.of();
+
+        List<Long> noticeIds = top.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .toList();
+        Map<Long, NoticeListResponseDto> notices = noticeRepository.findListItemsByIdIn(noticeIds).stream()
+                .collect(Collectors.toMap(NoticeListResponseDto::getId, Function.identity()));
+
+        return top.stream()
+                .map(tuple -> {
+                    NoticeListResponseDto notice = notices.get(Long.valueOf(tuple.getValue()));
+                    return notice == null ? null : new TrendingNoticeDto(notice, Math.round(tuple.getScore()));
+                })
+                .filter(Objects::nonNull)
+                .limit(MAX_SIZE)
+                .toList();
+    }
+
+    private Set<TypedTuple<String>> readTop(String unionKey) {
+        Set<TypedTuple<String>> top = redisTemplate.opsForZSet().reverseRangeWithScores(unionKey, 0, MAX_SIZE + OVERFETCH - 1);
+        return top == null ? Set.of() : top;
+    }
+
+    /**
+     * 기간의 bucket들을 합쳐 저장하고 만료 시간을 함께 설정 (여러 노드가 동시에 계산해도 결과는 같음)
+     */
+    private void union(TrendingWindow window, String unionKey) {
+        byte[][] bucketKeys = TrendingBuckets.keys(window, Instant.now()).stream()
+                .map(RedisViewCountAccumulator::bytes)
+                .toArray(byte[][]::new);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zUnionStore(bytes(unionKey), bucketKeys);
+            connection.keyCommands().pExpire(bytes(unionKey), cacheTtl.toMillis());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.rsupport.api.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * 조회마다 Redis 카운터(notice:view:{id})를 증가시키고 dirty set에 공지 id를 기록 (인기 공지 bucket도 함께 증가)
+ */
+@Component
+@ConditionalOnProperty(name = "notice.view-count.mode", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisViewCountAccumulator implements ViewCountAccumulator {
+    static final String VIEW_KEY_PREFIX = "notice:view:";
+    static final String DIRTY_KEY = "notice:views:dirty";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 카운터 증가와 dirty set 기록, 인기 공지 bucket 증가를 한 번의 파이프라인으로 전송
+     * 카운터를 먼저 증가시키므로, DB 반영 중에 들어온 조회도 dirty set에 다시 기록되어 다음 주기에 반영됨
+     */
+    @Override
+    @Timed("notice.view_count.increment")
+    public void increment(long noticeId) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            incrementBy(connection, noticeId, 1);
+            TrendingBuckets.increment(connection, noticeId, 1, Instant.now());
+            return null;
+        });
+    }
+
+    /**
+     * 파이프라인 안에서 조회수 증분을 기록 (다른 누적 방식과 복구 로직에서도 같은 키 구조를 사용)
+     */
+    static void incrementBy(RedisConnection connection, long noticeId, long delta) {
+        connection.stringCommands().incrBy(bytes(VIEW_KEY_PREFIX + noticeId), delta);
+        connection.setCommands().sAdd(bytes(DIRTY_KEY), bytes(Long.toString(noticeId)));
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.dto.enums.TrendingWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.rsupport.api.service.RedisViewCountAccumulator.bytes;
+
+/**
+ * 인기 공지사항 집계용 시간 bucket (Redis ZSET, member: 공지 id, score: bucket 안의 조회수)
+ * 조회마다 5분 bucket(1h 집계)과 1시간 bucket(24h, 7d 집계)의 점수를 올리고, 가장 긴 집계 기간이 지나면 만료
+ * 집계는 기간에 해당하는 bucket들을 ZUNIONSTORE로 합쳐서 계산 (현재 bucket을 포함하므로 최대 bucket 하나만큼 짧을 수 있음)
+ */
+final class TrendingBuckets {
+    static final String KEY_PREFIX = "notice:trending:";
+
+    @RequiredArgsConstructor
+    enum Granularity {
+        FIVE_MINUTES("5m", Duration.ofMinutes(5), TrendingWindow.HOUR.getSpan()),
+        HOUR("1h", Duration.ofHours(1), TrendingWindow.WEEK.getSpan());
+
+        private final String name;
+        private final Duration size;
+        private final Duration retention;
+
+        static Granularity of(TrendingWindow window) {
+            return window == TrendingWindow.HOUR ? FIVE_MINUTES : HOUR;
+        }
+
+        private long bucket(Instant at) {
+            return at.getEpochSecond() / size.toSeconds();
+        }
+
+        private String key(long bucket) {
+            return KEY_PREFIX + name + ":" + bucket;
+        }
+    }
+
+    private TrendingBuckets() {
+    }
+
+    /**
+     * 파이프라인 안에서 현재 bucket들의 조회수를 증가
+     */
+    static void increment(RedisConnection connection, long noticeId, long delta, Instant now) {
+        byte[] member = bytes(Long.toString(noticeId));
+        for (Granularity granularity : Granularity.values()) {
+            byte[] key = bytes(granularity.key(granularity.bucket(now)));
+            connection.zSetCommands().zIncrBy(key, delta, member);
+            connection.keyCommands().expire(key, granularity.retention.plus(granularity.size).toSeconds());
+        }
+    }
+
+    /**
+     * 집계 기간에 해당하는 bucket 키 (현재 bucket부터 과거 순)
+     */
+    static List<String> keys(TrendingWindow window, Instant now) {
+        Granularity granularity = Granularity.of(window);
+        long current = granularity.bucket(now);
+        long count = window.getSpan().dividedBy(granularity.size);
+
+        List<String> keys = new ArrayList<>((int) count);
+        for (long bucket = current; bucket > current - count; bucket--) {
+            keys.add(granularity.key(bucket));
+        }
+        return keys;
+    }
+
+    /**
+     * 합친 결과를 잠시 보관하는 키 (노드 간 공유)
+     */
+    static String unionKey(TrendingWindow window) {
+        return KEY_PREFIX + "union:" + window.getValue();
+    }
+}
@@ -0,0 +1,10 @@
+package com.rsupport.api.service;
+
+/**
+ * 조회수 누적 방식
+ * notice.view-count.mode=redis (기본값): 조회마다 Redis 카운터 증가
+ * notice.view-count.mode=local: 노드 메모리에 누적 후 주기적으로 일괄 반영
+ */
+public interface ViewCountAccumulator {
+    void increment(long noticeId);
+}
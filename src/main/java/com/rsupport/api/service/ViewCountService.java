@@ -0,0 +1,6 @@
+package com.rsupport.api.service;
+
+public interface ViewCountService {
+    void increment(Long noticeId);
+    void syncViewCountsToDB();
+}
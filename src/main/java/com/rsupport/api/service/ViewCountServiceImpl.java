@@ -0,0 +1,137 @@
+package com.rsupport.api.service;
+
+import com.rsupport.api.repository.NoticeViewCountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.rsupport.api.service.RedisViewCountAccumulator.DIRTY_KEY;
+import static com.rsupport.api.service.RedisViewCountAccumulator.VIEW_KEY_PREFIX;
+import static com.rsupport.api.service.RedisViewCountAccumulator.bytes;
+
+/**
+ * 조회수 집계
+ * 조회는 설정된 ViewCountAccumulator로 누적하고,
+ * Redis에 쌓인 카운터는 주기적으로 dirty set에서 꺼내 GETDEL로 읽고 비운 뒤 JDBC 배치로 DB에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountServiceImpl implements ViewCountService, MeterBinder {
+    private final ViewCountAccumulator viewCountAccumulator;
+    private final StringRedisTemplate redisTemplate;
+    private final NoticeViewCountRepository noticeViewCountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void increment(Long noticeId) {
+        viewCountAccumulator.increment(noticeId);
+    }
+
+    /**
+     * 일정 주기로 Redis의 조회수를 DB로 반영하는 메서드
+     * 실행 시점의 dirty set 크기만큼만 처리하여 조회가 계속 들어와도 무한히 반복되지 않음
+     */
+    @Override
+    @Scheduled(fixedRate = 600000) // 10분마다 실행 (600,000ms = 10분)
+    public void syncViewCountsToDB() {
+        long started = System.nanoTime();
+        int flushed = 0;
+        try {
+            long remaining = Optional.ofNullable(redisTemplate.opsForSet().size(DIRTY_KEY)).orElse(0L);
+            while (remaining > 0) {
+                List<String> noticeIds = redisTemplate.opsForSet().pop(DIRTY_KEY, Math.min(remaining, BATCH_SIZE));
+                if (noticeIds == null || noticeIds.isEmpty()) break;
+                remaining -= noticeIds.size();
+
+                flushed += flush(noticeIds);
+            }
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            lastFlushNanos.set(elapsed);
+            if (flushed > 0) {
+                log.info("조회수 DB 반영: {}건, {}ms", flushed, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+
+    /**
+     * DB 반영을 기다리는 공지 수(dirty set 크기)와 마지막 반영에 걸린 시간
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notice.view_count.pending", this, ViewCountServiceImpl::pendingCount)
+                .description("DB 반영을 기다리는 조회수 키 수")
+                .register(registry);
+        TimeGauge.builder("notice.view_count.flush.last.duration", lastFlushNanos, TimeUnit.NANOSECONDS, AtomicLong::get)
+                .description("마지막 조회수 DB 반영에 걸린 시간")
+                .register(registry);
+    }
+
+    private double pendingCount() {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForSet().size(DIRTY_KEY)).orElse(0L);
+        } catch (DataAccessException e) {
+            return Double.NaN; // Redis 장애 시 수집만 건너뜀
+        }
+    }
+
+    /**
+     * @return DB에 반영한 공지 수
+     */
+    private int flush(List<String> noticeIds) {
+        // 카운터를 읽는 동시에 삭제하므로 GET과 DELETE 사이에 들어온 조회가 유실되지 않음
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            noticeIds.forEach(noticeId -> connection.stringCommands().getDel(bytes(VIEW_KEY_PREFIX + noticeId)));
+            return null;
+        });
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < noticeIds.size(); i++) {
+            Object count = counts.get(i);
+            if (count != null) {
+                deltas.put(Long.valueOf(noticeIds.get(i)), Long.valueOf(count.toString()));
+            }
+        }
+        if (deltas.isEmpty()) return 0;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> noticeViewCountRepository.addViewCounts(deltas));
+        } catch (DataAccessException e) {
+            restore(deltas);
+            throw e;
+        }
+        return deltas.size();
+    }
+
+    /**
+     * DB 반영에 실패한 조회수를 Redis 카운터에 되돌려 다음 주기에 다시 반영되도록 함
+     */
+    private void restore(Map<Long, Long> deltas) {
+        log.warn("조회수 DB 반영 실패, Redis로 복구: {}건", deltas.size());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((noticeId, delta) -> RedisViewCountAccumulator.incrementBy(connection, noticeId, delta));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.rsupport.api.stream;
+
+/**
+ * 공지사항 변경 스트림 이벤트 종류 (SSE event 이름은 소문자)
+ */
+public enum NoticeStreamEventType {
+    CREATED, UPDATED, DELETED, ACTIVATED, EXPIRED
+}
@@ -0,0 +1,248 @@
+package com.rsupport.api.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rsupport.api.dto.NoticeStreamEventDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 공지사항 변경 스트림 (SSE)
+ * Redis pub/sub으로 받은 이벤트를 최근 replay-size개까지 보관하고, 노드에 연결된 구독자마다 크기가 제한된 대기열에 넣어 전송
+ * 전송은 구독자별로 대기열이 있을 때만 가상 스레드에서 실행하므로, 유휴 구독자는 연결과 빈 대기열 외에 자원을 쓰지 않음
+ * 대기열이 가득 찬 느린 구독자는 연결을 끊어 Last-Event-ID로 다시 연결하도록 하고,
+ * 보관한 이벤트로 이어서 보낼 수 없으면 reset 이벤트를 보내 목록을 다시 조회하도록 함
+ * 이벤트 id는 발행 전에 발급하므로 노드 간 발행 순서가 뒤바뀔 수 있어, 보관은 이벤트 id 순으로 하고 빠진 id가 있으면 reset으로 처리
+ */
+@Slf4j
+@Component
+public class NoticeStreamHub implements MessageListener, MeterBinder {
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final NavigableMap<Long, Set<DataWithMediaType>> history = new TreeMap<>(); // 이벤트 id 순 최근 이벤트, 자신으로 동기화
+    private long lastSequence; // history로 동기화
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int maxSubscribers;
+    private final int bufferSize;
+    private final int replaySize;
+
+    public NoticeStreamHub(ObjectMapper objectMapper,
+                           @Value("${notice.stream.timeout:30m}") Duration timeout,
+                           @Value("${notice.stream.max-subscribers:20000}") int maxSubscribers,
+                           @Value("${notice.stream.buffer-size:64}") int bufferSize,
+                           @Value("${notice.stream.replay-size:1000}") int replaySize) {
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.maxSubscribers = maxSubscribers;
+        this.bufferSize = bufferSize;
+        this.replaySize = replaySize;
+    }
+
+    /**
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id (Last-Event-ID)
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "구독자 수가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::disconnect);
+        emitter.onError(e -> subscriber.close());
+
+        // 보관한 이벤트를 넣는 동안 새 이벤트가 끼어들지 않도록 history 잠금 안에서 등록
+        synchronized (history) {
+            for (Set<DataWithMediaType> frame : replay(lastEventId)) {
+                subscriber.offer(frame);
+            }
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    /**
+     * NoticeStreamPublisher가 발행한 이벤트 수신 (seq|type|noticeId|epochMillis)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + NoticeStreamPublisher.DELIMITER);
+        long sequence;
+        Set<DataWithMediaType> frame;
+        try {
+            if (parts.length != 4) throw new IllegalArgumentException("필드 수: " + parts.length);
+            sequence = Long.parseLong(parts[0]);
+            NoticeStreamEventType type = NoticeStreamEventType.valueOf(parts[1]);
+            LocalDateTime occurredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[3])), ZoneId.systemDefault());
+            frame = frame(sequence, type, new NoticeStreamEventDto(type, Long.valueOf(parts[2]), occurredAt));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            log.warn("잘못된 공지사항 스트림 메시지 무시: {}", body, e);
+            return;
+        }
+
+        synchronized (history) {
+            if (history.putIfAbsent(sequence, frame) != null) return; // 중복 수신
+            if (history.size() > replaySize) {
+                history.pollFirstEntry();
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+            // 늦게 도착한 이벤트도 연결된 구독자에게는 바로 전송 (클라이언트는 noticeId 기준으로 반영)
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(frame)) {
+                    subscriber.disconnect();
+                }
+            }
+        }
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석을 전송 (대기열이 가득 차 있으면 생략)
+     */
+    @Scheduled(fixedRateString = "${notice.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notice.stream.subscribers", subscribers, Set::size)
+                .description("노드에 연결된 공지사항 스트림 구독자 수")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdown();
+    }
+
+    /**
+     * 재연결한 구독자에게 보낼 이벤트 (history 잠금 안에서 호출)
+     * lastEventId 다음부터 마지막 이벤트까지 id가 빠짐없이 보관되어 있지 않거나 대기열보다 많으면 reset 이벤트 하나만 보냄
+     */
+    private List<Set<DataWithMediaType>> replay(Long lastEventId) {
+        if (lastEventId == null) return List.of();
+
+        List<Set<DataWithMediaType>> frames = new ArrayList<>();
+        long expected = lastEventId + 1;
+        for (Map.Entry<Long, Set<DataWithMediaType>> entry : history.tailMap(lastEventId, false).entrySet()) {
+            if (entry.getKey() != expected || frames.size() == bufferSize) return reset();
+            frames.add(entry.getValue());
+            expected++;
+        }
+        if (lastSequence == 0 || expected - 1 != lastSequence) return reset();
+        return frames;
+    }
+
+    private List<Set<DataWithMediaType>> reset() {
+        return List.of(SseEmitter.event().id(Long.toString(lastSequence)).name("reset").data("{}").build());
+    }
+
+    /**
+     * 구독자 수와 관계없이 이벤트마다 한 번만 JSON으로 변환
+     */
+    private Set<DataWithMediaType> frame(long sequence, NoticeStreamEventType type, NoticeStreamEventDto body) {
+        try {
+            return SseEmitter.event()
+                    .id(Long.toString(sequence))
+                    .name(type.name().toLowerCase(Locale.ROOT))
+                    .data(objectMapper.writeValueAsString(body), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("스트림 이벤트를 JSON으로 변환하지 못했습니다.", e);
+        }
+    }
+
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue = new LinkedBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        boolean offer(Set<DataWithMediaType> frame) {
+            if (closed) return true;
+            if (!queue.offer(frame)) return false;
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this);
+            }
+            return true;
+        }
+
+        /**
+         * 대기열이 가득 찼거나 연결 시간이 지난 구독자는 연결을 끊음 (클라이언트는 Last-Event-ID로 재연결)
+         */
+        void disconnect() {
+            close();
+            emitter.complete();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        /**
+         * 대기열을 비울 때까지 전송 (구독자별로 한 스레드만 실행)
+         */
+        @Override
+        public void run() {
+            try {
+                for (Set<DataWithMediaType> frame = queue.poll(); frame != null && !closed; frame = queue.poll()) {
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close(); // 연결이 끊긴 구독자
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() && !closed && scheduled.compareAndSet(false, true)) {
+                sender.execute(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.rsupport.api.stream;
+
+import com.rsupport.api.event.NoticeActivationEvent;
+import com.rsupport.api.event.NoticeChangedEvent;
+import com.rsupport.api.event.NoticesImportedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 공지사항 변경을 스트림 이벤트로 Redis pub/sub에 발행 (모든 노드의 NoticeStreamHub가 수신)
+ * 이벤트 id는 Redis INCR로 발급하여 노드가 달라도 Last-Event-ID로 이어서 받을 수 있도록 함
+ * 게시 시작/종료는 모든 노드의 타이머에서 발생하므로 SET NX로 한 번만 발행
+ * 타이머 스레드가 Redis 응답을 기다리지 않도록 게시 시작/종료 발행은 가상 스레드에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeStreamPublisher {
+    public static final String CHANNEL = "notice:stream";
+    static final String DELIMITER = "|";
+    private static final String SEQUENCE_KEY = "notice:stream:seq";
+    private static final String DEDUP_KEY_PREFIX = "notice:stream:dedup:";
+    private static final Duration DEDUP_TTL = Duration.ofHours(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 등록/수정/삭제는 커밋 이후 변경한 노드에서만 발행
+     */
+    @TransactionalEventListener
+    public void publish(NoticeChangedEvent event) {
+        if (event.isRemote()) return;
+        publish(NoticeStreamEventType.valueOf(event.getType().name()), event.getNoticeId(), System.currentTimeMillis());
+    }
+
+    /**
+     * 일괄 등록은 등록 건수만큼 이벤트 id를 한 번에 발급하고, 등록 이벤트를 파이프라인으로 발행
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(NoticesImportedEvent event) {
+        List<Long> noticeIds = event.getNoticeIds();
+        if (event.isRemote() || noticeIds.isEmpty()) return;
+
+        String occurredAt = Long.toString(System.currentTimeMillis());
+        try {
+            long first = redisTemplate.opsForValue().increment(SEQUENCE_KEY, noticeIds.size()) - noticeIds.size() + 1;
+            byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < noticeIds.size(); i++) {
+                    String message = String.join(DELIMITER, Long.toString(first + i),
+                            NoticeStreamEventType.CREATED.name(), noticeIds.get(i).toString(), occurredAt);
+                    connection.publish(channel, message.getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("공지사항 스트림 이벤트 발행 실패: count={}", noticeIds.size(), e);
+        }
+    }
+
+    /**
+     * ActiveNoticeRegistry의 타이머 스레드에서 호출되므로 발행은 executor에 넘김
+     */
+    @EventListener
+    public void publish(NoticeActivationEvent event) {
+        executor.execute(() -> publishActivation(event));
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void publishActivation(NoticeActivationEvent event) {
+        NoticeStreamEventType type = event.isActive() ? NoticeStreamEventType.ACTIVATED : NoticeStreamEventType.EXPIRED;
+        long at = event.getAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        try {
+            Boolean first = redisTemplate.opsForValue()
+                    .setIfAbsent(DEDUP_KEY_PREFIX + type + ":" + event.getNoticeId() + ":" + at, "1", DEDUP_TTL);
+            if (!Boolean.TRUE.equals(first)) return; // 다른 노드가 이미 발행함
+        } catch (DataAccessException e) {
+            log.warn("공지사항 스트림 이벤트 발행 실패: noticeId={}", event.getNoticeId(), e);
+            return;
+        }
+        publish(type, event.getNoticeId(), at);
+    }
+
+    private void publish(NoticeStreamEventType type, Long noticeId, long occurredAt) {
+        try {
+            Long sequence = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+            redisTemplate.convertAndSend(CHANNEL, String.join(DELIMITER,
+                    String.valueOf(sequence), type.name(), noticeId.toString(), Long.toString(occurredAt)));
+        } catch (DataAccessException e) {
+            log.warn("공지사항 스트림 이벤트 발행 실패: noticeId={}", noticeId, e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.rsupport.api;
+
+import com.rsupport.api.cache.ActiveNoticeRegistry;
+import com.rsupport.api.dto.ActiveNoticeDto;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeListVersionDto;
+import com.rsupport.api.event.NoticeChangeType;
+import com.rsupport.api.event.NoticeChangedEvent;
+import com.rsupport.api.event.ViewCountsFlushedEvent;
+import com.rsupport.api.repository.NoticeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveNoticeRegistryTest {
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Mock
+    private NoticeRepository noticeRepository;
+
+    private ActiveNoticeRegistry registry;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ActiveNoticeRegistry(noticeRepository, event -> {}, true, Duration.ofMillis(10));
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    @DisplayName("게시 중인 공지 테스트 1. 게시 시작/종료 시각에 목록에 추가/제거")
+    void testReload_ActivatesAndExpiresOnTime() throws Exception {
+        when(noticeRepository.findUnexpiredNotices(any())).thenReturn(List.of(
+                notice(1L, now.minusDays(1), now.plusNanos(300_000_000L)),   // 게시 중, 곧 종료
+                notice(2L, now.plusNanos(300_000_000L), now.plusDays(1))));  // 곧 게시 시작
+        registry.reload();
+
+        assertEquals(List.of(1L), ids());
+        awaitTrue(() -> ids().equals(List.of(2L)));
+    }
+
+    @Test
+    @DisplayName("게시 중인 공지 테스트 2. 변경/삭제 이벤트와 조회수 반영")
+    void testEvents_UpdateRegistry() {
+        when(noticeRepository.findUnexpiredNotices(any())).thenReturn(List.of(notice(1L, now.minusDays(1), now.plusDays(1))));
+        registry.reload();
+
+        when(noticeRepository.findActiveNoticeById(2L)).thenReturn(Optional.of(notice(2L, now.minusDays(1), now.plusDays(1))));
+        registry.onNoticeChanged(NoticeChangedEvent.of(2L, NoticeChangeType.CREATED));
+        assertEquals(List.of(2L, 1L), ids());
+
+        registry.onViewCountsFlushed(new ViewCountsFlushedEvent(Map.of(1L, 5L)));
+        assertEquals(5, registry.getPage(FIRST_PAGE).getContent().get(1).getViewCount());
+
+        registry.onNoticeChanged(NoticeChangedEvent.of(1L, NoticeChangeType.DELETED));
+        assertEquals(List.of(2L), ids());
+        assertEquals(1, registry.getPage(FIRST_PAGE).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("게시 중인 공지 테스트 3. 페이지 단위로 응답하고 전체 건수는 종료 타이머가 제거할 때 목록과 함께 줄어듦")
+    void testGetPage_TotalFollowsRemoval() throws Exception {
+        when(noticeRepository.findUnexpiredNotices(any())).thenReturn(List.of(
+                notice(1L, now.minusDays(1), now.plusDays(1)),
+                notice(2L, now.minusDays(1), LocalDateTime.now().plusNanos(300_000_000L)), // 곧 종료
+                notice(3L, now.minusDays(1), now.plusDays(1))));
+        registry.reload();
+
+        PageRequest secondPage = PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Page<NoticeListResponseDto> page = registry.getPage(secondPage);
+        assertEquals(List.of(1L), page.getContent().stream().map(NoticeListResponseDto::getId).toList());
+        assertEquals(3, page.getTotalElements());
+
+        awaitTrue(() -> ids().equals(List.of(3L, 1L)));
+        assertEquals(2, registry.getPage(FIRST_PAGE).getTotalElements());
+        assertEquals(List.of(), registry.getPage(secondPage).getContent());
+        assertEquals(2, registry.getVersion().getCount());
+    }
+
+    @Test
+    @DisplayName("게시 중인 공지 테스트 4. 늦게 도착한 이전 버전은 반영하지 않음")
+    void testOnNoticeChanged_IgnoresStaleVersion() {
+        when(noticeRepository.findUnexpiredNotices(any())).thenReturn(List.of());
+        registry.reload();
+
+        when(noticeRepository.findActiveNoticeById(1L)).thenReturn(Optional.of(notice(1L, now.minusDays(1), now.plusDays(1), 2L, "New")));
+        registry.onNoticeChanged(NoticeChangedEvent.of(1L, NoticeChangeType.UPDATED));
+        when(noticeRepository.findActiveNoticeById(1L)).thenReturn(Optional.of(notice(1L, now.minusDays(1), now.plusDays(1), 1L, "Old")));
+        registry.onNoticeChanged(NoticeChangedEvent.of(1L, NoticeChangeType.UPDATED));
+        assertEquals("New", registry.getPage(FIRST_PAGE).getContent().get(0).getTitle());
+
+        // 삭제 이후 늦게 도착한 조회 결과로 다시 추가되지 않음
+        registry.onNoticeChanged(NoticeChangedEvent.of(1L, NoticeChangeType.DELETED));
+        registry.onNoticeChanged(NoticeChangedEvent.of(1L, NoticeChangeType.UPDATED));
+        assertEquals(List.of(), ids());
+    }
+
+    @Test
+    @DisplayName("게시 중인 공지 테스트 5. 재적재 조회 중에도 변경 이벤트를 반영하고, 조회 이후 삭제된 공지는 다시 추가하지 않음")
+    void testReload_QueriesOutsideLock() throws Exception {
+        when(noticeRepository.findUnexpiredNotices(any())).thenReturn(List.of(notice(1L, now.minusDays(1), now.plusDays(1))));
+        registry.reload();
+
+        when(noticeRepository.findUnexpiredNotices(any())).thenAnswer(invocation -> {
+            // 조회 도중 다른 스레드에서 삭제 이벤트 처리 (조회가 락 안에서 실행되면 끝나지 않음)
+            CompletableFuture<Void> deleted = CompletableFuture.runAsync(() ->
+                    registry.onNoticeChanged(NoticeChangedEvent.of(1L, NoticeChangeType.DELETED)));
+            deleted.get(1, TimeUnit.SECONDS);
+            return List.of(notice(1L, now.minusDays(1), now.plusDays(1)));
+        });
+        registry.reload();
+
+        assertEquals(List.of(), ids());
+    }
+
+    @Test
+    @DisplayName("게시 중인 공지 테스트 6. 목록과 같은 기준으로 집계 버전을 만들고 조회수 반영 시 ETag가 바뀜")
+    void testGetVersion_FollowsRegistryState() {
+        when(noticeRepository.findUnexpiredNotices(any())).thenReturn(List.of(
+                notice(1L, now.minusDays(1), now.plusDays(1)),
+                notice(2L, now.plusDays(1), now.plusDays(2)))); // 게시 예정
+        registry.reload();
+
+        NoticeListVersionDto version = registry.getVersion();
+        assertEquals(1, version.getCount());
+        assertEquals(now, version.getUpdatedAt());
+
+        registry.onViewCountsFlushed(new ViewCountsFlushedEvent(Map.of(1L, 3L, 2L, 7L))); // 게시 예정 공지는 집계에서 제외
+        assertEquals(3, registry.getVersion().getViewCount());
+        assertNotEquals(version.getETag(), registry.getVersion().getETag());
+
+        registry.onNoticeChanged(NoticeChangedEvent.of(1L, NoticeChangeType.DELETED));
+        assertEquals(0, registry.getVersion().getCount());
+        assertNull(registry.getVersion().getUpdatedAt());
+        assertNull(registry.getVersion().getViewCount());
+    }
+
+    private List<Long> ids() {
+        return registry.getPage(FIRST_PAGE).getContent().stream().map(NoticeListResponseDto::getId).toList();
+    }
+
+    private ActiveNoticeDto notice(Long id, LocalDateTime startAt, LocalDateTime endAt) {
+        return notice(id, startAt, endAt, 0L, "Title " + id);
+    }
+
+    private ActiveNoticeDto notice(Long id, LocalDateTime startAt, LocalDateTime endAt, Long version, String title) {
+        return new ActiveNoticeDto(id, title, "admin", now.minusHours(10 - id), 0, false, startAt, endAt, now, version);
+    }
+
+    private static void awaitTrue(Supplier<Boolean> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.get() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.get());
+    }
+}
@@ -0,0 +1,73 @@
+package com.rsupport.api;
+
+import com.rsupport.api.dto.UploadedFileDto;
+import com.rsupport.api.repository.FileBlobRepository;
+import com.rsupport.api.service.FileService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:content-addressed",
+        "notice.file.storage-mode=cas",
+        "notice.file.upload-dir=build/cas-test/"
+})
+class ContentAddressedFileServiceTest {
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("CAS 저장 테스트 1. 같은 내용은 한 번만 저장하고 마지막 참조가 해제될 때 삭제")
+    void testUpload_DeduplicatesAndReleasesLastReference() {
+        byte[] content = ("same content " + System.nanoTime()).getBytes();
+        UploadedFileDto first = transactionTemplate.execute(status ->
+                fileService.upload(new MockMultipartFile("files", "a.pdf", "application/pdf", content)));
+        UploadedFileDto second = transactionTemplate.execute(status ->
+                fileService.upload(new MockMultipartFile("files", "b.pdf", "application/pdf", content)));
+
+        assertEquals(first.getPath(), second.getPath());
+        assertTrue(first.getPath().endsWith(first.getChecksum()));
+        assertEquals(2, fileBlobRepository.findById(first.getChecksum()).orElseThrow().getRefCount());
+
+        transactionTemplate.executeWithoutResult(status -> fileService.delete(first.getPath()));
+        assertTrue(Files.exists(Path.of(first.getPath())));
+        assertEquals(1, fileBlobRepository.findById(first.getChecksum()).orElseThrow().getRefCount());
+
+        transactionTemplate.executeWithoutResult(status -> fileService.delete(second.getPath()));
+        assertFalse(Files.exists(Path.of(first.getPath())));
+        assertFalse(fileBlobRepository.existsById(first.getChecksum()));
+    }
+
+    @Test
+    @DisplayName("CAS 저장 테스트 2. 참조는 호출한 트랜잭션과 별개로 커밋되고, 메타데이터 저장에 실패하면 delete로 정리")
+    void testUpload_CommitsReferenceIndependently() {
+        byte[] content = ("rolled back " + System.nanoTime()).getBytes();
+        UploadedFileDto uploaded = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return fileService.upload(new MockMultipartFile("files", "c.pdf", "application/pdf", content));
+        });
+
+        assertTrue(Files.exists(Path.of(uploaded.getPath())));
+        assertEquals(1, fileBlobRepository.findById(uploaded.getChecksum()).orElseThrow().getRefCount());
+
+        fileService.delete(uploaded.getPath()); // AttachmentUploader.deleteAll
+        assertFalse(Files.exists(Path.of(uploaded.getPath())));
+        assertFalse(fileBlobRepository.existsById(uploaded.getChecksum()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.rsupport.api;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 가상 스레드 모드에서 동시 DB 요청이 세마포어 대기열에서 순서대로 처리되는지 검증
+ * permit 수를 풀 크기보다 작게 설정하여, 풀이 아닌 세마포어가 동시 사용 커넥션 수를 제한하는지 확인
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:database-permit",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "notice.datasource.max-permits=2",
+        "spring.threads.virtual.enabled=true"
+})
+class DatabasePermitTest {
+    private static final int REQUESTS = 500;
+    private static final int PERMITS = 2;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("DB 접근 제한 테스트 1. 가상 스레드 수백 개가 동시에 조회해도 permit 수를 넘지 않고 모두 성공")
+    void testConcurrentQueries_QueueOnPermits() throws Exception {
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        AtomicInteger maxActiveConnections = new AtomicInteger();
+
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> transactionTemplate.execute(status -> {
+                    Integer one = jdbcTemplate.queryForObject("SELECT 1", Integer.class); // 커넥션 획득
+                    maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                    maxActiveConnections.accumulateAndGet(pool.getHikariPoolMXBean().getActiveConnections(), Math::max);
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        inUse.decrementAndGet();
+                    }
+                    return one;
+                })));
+            }
+        }
+
+        for (Future<Integer> result : results) {
+            assertEquals(1, result.get());
+        }
+        // 풀(4)에는 여유가 있어도 permit 수까지만 동시에 사용하고, 대기열이 쌓이므로 permit 수만큼은 모두 사용
+        assertEquals(4, pool.getMaximumPoolSize());
+        assertEquals(PERMITS, maxInUse.get(), "동시 사용 커넥션 수: " + maxInUse.get());
+        assertTrue(maxActiveConnections.get() <= PERMITS, "활성 커넥션 수: " + maxActiveConnections.get());
+        assertFalse(dataSource instanceof HikariDataSource); // 세마포어 DataSource로 감쌈
+        assertTrue(dataSource.isWrapperFor(HikariDataSource.class));
+    }
+}
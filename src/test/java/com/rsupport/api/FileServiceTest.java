@@ -0,0 +1,113 @@
+package com.rsupport.api;
+
+import com.rsupport.api.dto.UploadedFileDto;
+import com.rsupport.api.service.FileServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileServiceTest {
+    private static final long MAX_ALLOCATED_BYTES = 8L * 1024 * 1024;
+
+    @TempDir
+    Path uploadDir;
+
+    @ParameterizedTest
+    @ValueSource(longs = {16L * 1024 * 1024, 256L * 1024 * 1024})
+    @DisplayName("파일 업로드 테스트 1. 파일 크기와 관계없이 힙 할당량이 일정함")
+    void testUpload_HeapAllocationIsIndependentOfFileSize(long fileSize) throws Exception {
+        FileServiceImpl fileService = new FileServiceImpl(uploadDir.toString());
+        fileService.upload(new GeneratedMultipartFile(1024)); // 버퍼 풀, 클래스 로딩 등 워밍업
+
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        UploadedFileDto uploaded = fileService.upload(new GeneratedMultipartFile(fileSize));
+
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        assertTrue(allocated < MAX_ALLOCATED_BYTES, "업로드 중 힙 할당량: " + allocated + " bytes");
+        assertEquals(fileSize, uploaded.getSize());
+        assertEquals(fileSize, Files.size(Path.of(uploaded.getPath())));
+        assertEquals(64, uploaded.getChecksum().length());
+    }
+
+    /**
+     * 내용을 읽을 때마다 생성하는 MultipartFile (getBytes로 전체를 힙에 올리면 실패)
+     */
+    private static class GeneratedMultipartFile implements MultipartFile {
+        private final long size;
+
+        GeneratedMultipartFile(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public String getName() {
+            return "files";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "generated.bin";
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("파일 전체를 메모리에 올리면 안 됩니다.");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long position;
+
+                @Override
+                public int read() {
+                    return position < size ? (int) (position++ % 251) : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (position >= size) return -1;
+                    int count = (int) Math.min(len, size - position);
+                    for (int i = 0; i < count; i++) {
+                        b[off + i] = (byte) (position++ % 251);
+                    }
+                    return count;
+                }
+            };
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
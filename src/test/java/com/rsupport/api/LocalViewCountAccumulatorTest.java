@@ -0,0 +1,91 @@
+package com.rsupport.api;
+
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.repository.NoticeRepository;
+import com.rsupport.api.repository.UserRepository;
+import com.rsupport.api.service.LocalViewCountAccumulator;
+import com.rsupport.api.service.ViewCountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 노드 메모리 누적(local) 모드에서 조회수가 DB에 반영되고, 조회가 없는 공지의 카운터는 제거되는지 검증
+ * 예약된 반영이 테스트 중에 실행되지 않도록 반영 주기를 길게 둠
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:view-count-local",
+        "notice.view-count.mode=local",
+        "notice.view-count.local.drain-target=db",
+        "notice.view-count.local.drain-interval-ms=3600000"
+})
+class LocalViewCountAccumulatorTest {
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private LocalViewCountAccumulator accumulator;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("로컬 조회수 테스트 1. 반영한 뒤 조회가 없는 공지의 카운터는 제거하고, 다시 조회되면 새 카운터로 누적")
+    void testDrain_RemovesIdleCounters() {
+        Notice notice = noticeRepository.save(Notice.builder()
+                .title("Local View Count Title")
+                .content("Local View Count Content")
+                .author(userRepository.findById(1L).orElseThrow())
+                .startAt(LocalDateTime.now().minusDays(3))
+                .endAt(LocalDateTime.now().plusDays(3))
+                .attachments(new ArrayList<>())
+                .viewCount(0)
+                .build());
+        accumulator.drain();
+        accumulator.drain(); // 기동 시 남은 카운터 정리
+
+        for (int i = 0; i < 3; i++) {
+            viewCountService.increment(notice.getId());
+        }
+        assertEquals(1, counters());
+
+        accumulator.drain();
+        assertEquals(3, viewCount(notice.getId()));
+        assertEquals(1, counters());
+
+        accumulator.drain(); // 증분이 없으므로 제거
+        assertEquals(0, counters());
+
+        viewCountService.increment(notice.getId());
+        accumulator.drain();
+        accumulator.drain();
+        assertEquals(4, viewCount(notice.getId()));
+        assertEquals(0, counters());
+    }
+
+    private double counters() {
+        return meterRegistry.get("notice.view_count.local.counters").gauge().value();
+    }
+
+    private int viewCount(Long noticeId) {
+        return jdbcTemplate.queryForObject("SELECT VIEW_COUNT FROM NOTICE WHERE ID = ?", Integer.class, noticeId);
+    }
+}
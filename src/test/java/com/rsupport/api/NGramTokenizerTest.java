@@ -0,0 +1,46 @@
+package com.rsupport.api;
+
+import com.rsupport.api.service.NGramTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NGramTokenizerTest {
+
+    @Test
+    @DisplayName("토크나이저 테스트 1. 단어마다 2-gram을 만들고 출현 횟수를 셈")
+    void testTokenize_CountsBigramsPerWord() {
+        Map<String, Integer> tokens = NGramTokenizer.tokenize("서버 점검, 서버점검");
+
+        assertEquals(Map.of("서버", 2, "버점", 1, "점검", 2), tokens);
+    }
+
+    @Test
+    @DisplayName("토크나이저 테스트 2. 영문은 소문자로 변환하고 단어 경계를 넘는 토큰은 만들지 않음")
+    void testTokenize_LowercasesAndSplitsWords() {
+        Map<String, Integer> tokens = NGramTokenizer.tokenize("Login-OK");
+
+        assertEquals(Map.of("lo", 1, "og", 1, "gi", 1, "in", 1, "ok", 1), tokens);
+    }
+
+    @Test
+    @DisplayName("토크나이저 테스트 3. 한 글자 단어와 빈 문자열은 토큰을 만들지 않음")
+    void testTokenize_SkipsSingleCharacterWords() {
+        assertTrue(NGramTokenizer.tokenize("검").isEmpty());
+        assertTrue(NGramTokenizer.tokenize("a b c").isEmpty());
+        assertTrue(NGramTokenizer.tokenize(" ").isEmpty());
+        assertTrue(NGramTokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("토크나이저 테스트 4. 보조 문자(surrogate pair)는 한 글자로 취급")
+    void testTokenize_HandlesSupplementaryCharacters() {
+        Map<String, Integer> tokens = NGramTokenizer.tokenize("𝒜𝒜𝒜");
+
+        assertEquals(Map.of("𝒜𝒜", 2), tokens);
+    }
+}
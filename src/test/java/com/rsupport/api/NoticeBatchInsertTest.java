@@ -0,0 +1,83 @@
+package com.rsupport.api;
+
+import com.rsupport.api.dto.UploadedFileDto;
+import com.rsupport.api.service.FileService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 첨부파일 INSERT가 JDBC 배치로 전송되는지 검증
+ * 배치로 전송되면 INSERT 문은 한 번만 준비(prepare)되고 행마다 addBatch됨
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:batch-insert",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.rsupport.api.NoticeBatchInsertTest$PreparedSqlCapture"
+})
+@AutoConfigureMockMvc
+class NoticeBatchInsertTest {
+    private static final int FILES = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private FileService fileService;
+
+    @Test
+    @DisplayName("배치 INSERT 테스트 1. 첨부파일 여러 개를 한 번의 배치로 저장")
+    void testSaveNotice_InsertsAttachmentsInSingleBatch() throws Exception {
+        when(fileService.upload(any())).thenReturn(new UploadedFileDto("uploads/batch.txt", 1, "0".repeat(64)));
+
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        MockMultipartHttpServletRequestBuilder request = MockMvcRequestBuilders.multipart("/api/notices");
+        for (int i = 0; i < FILES; i++) {
+            request.file(new MockMultipartFile("files", "batch-" + i + ".txt", "text/plain", new byte[]{1}));
+        }
+        request.param("title", "Title")
+                .param("content", "Content")
+                .param("startAt", LocalDateTime.now().toString())
+                .param("endAt", LocalDateTime.now().plusDays(1).toString())
+                .session(session)
+                .contentType(MediaType.MULTIPART_FORM_DATA);
+
+        PreparedSqlCapture.STATEMENTS.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+
+        long attachmentInserts = PreparedSqlCapture.STATEMENTS.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith("insert into attachment"))
+                .count();
+        assertEquals(1, attachmentInserts, String.join("\n", PreparedSqlCapture.STATEMENTS));
+    }
+
+    public static class PreparedSqlCapture implements StatementInspector {
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
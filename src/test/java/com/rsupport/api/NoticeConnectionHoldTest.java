@@ -0,0 +1,143 @@
+package com.rsupport.api;
+
+import com.rsupport.api.repository.FileBlobRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 CAS 저장소(notice.file.storage-mode=cas)로 느린 업로드를 저장하면서, 파일을 쓰는 동안 빌려간 DB 커넥션이 없는지 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:connection-hold",
+        "notice.file.storage-mode=cas",
+        "notice.file.upload-dir=build/connection-hold/"
+})
+@AutoConfigureMockMvc
+class NoticeConnectionHoldTest {
+    private static final long UPLOAD_MILLIS = 200;
+    private static final int FILES = 8;
+
+    // 커넥션을 빌려서 반납할 때까지 걸린 시간
+    private static final Queue<Long> CONNECTION_USAGE_MILLIS = new ConcurrentLinkedQueue<>();
+    // 업로드 파일을 읽는 도중의 활성 커넥션 수
+    private static final Queue<Integer> ACTIVE_CONNECTIONS_DURING_UPLOAD = new ConcurrentLinkedQueue<>();
+
+    @TestConfiguration
+    static class ConnectionUsageConfig {
+        @Bean
+        static BeanPostProcessor connectionUsageRecorder() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof HikariDataSource dataSource) {
+                        dataSource.setMetricsTrackerFactory((poolName, poolStats) -> new IMetricsTracker() {
+                            @Override
+                            public void recordConnectionUsage(long elapsedBorrowedMillis) {
+                                CONNECTION_USAGE_MILLIS.add(elapsedBorrowedMillis);
+                            }
+                        });
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Test
+    @DisplayName("첨부파일 저장 테스트 1. 파일 저장 동안 DB 커넥션을 잡지 않고 병렬로 저장")
+    void testSaveNotice_DoesNotHoldConnectionDuringUpload() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        MockMultipartHttpServletRequestBuilder request = MockMvcRequestBuilders.multipart("/api/notices");
+        for (int i = 0; i < FILES; i++) {
+            request.file(new SlowMultipartFile("slow-" + i + ".bin", ("slow " + i + " " + System.nanoTime()).getBytes()));
+        }
+        request.param("title", "Title")
+                .param("content", "Content")
+                .param("startAt", LocalDateTime.now().toString())
+                .param("endAt", LocalDateTime.now().plusDays(1).toString())
+                .session(session)
+                .contentType(MediaType.MULTIPART_FORM_DATA);
+
+        CONNECTION_USAGE_MILLIS.clear();
+        ACTIVE_CONNECTIONS_DURING_UPLOAD.clear();
+        long started = System.nanoTime();
+        mockMvc.perform(request).andExpect(status().isOk());
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(FILES, ACTIVE_CONNECTIONS_DURING_UPLOAD.size());
+        assertTrue(ACTIVE_CONNECTIONS_DURING_UPLOAD.stream().allMatch(active -> active == 0),
+                "업로드 중 활성 커넥션 수: " + ACTIVE_CONNECTIONS_DURING_UPLOAD);
+        long maxHoldMillis = CONNECTION_USAGE_MILLIS.stream().mapToLong(Long::longValue).max().orElse(0);
+        assertTrue(maxHoldMillis < UPLOAD_MILLIS, "커넥션 최대 점유 시간: " + maxHoldMillis + "ms");
+        assertTrue(elapsedMillis < FILES * UPLOAD_MILLIS, "요청 처리 시간: " + elapsedMillis + "ms");
+        assertEquals(FILES, fileBlobRepository.count());
+        assertFalse(fileBlobRepository.findAll().stream().anyMatch(blob -> blob.getRefCount() != 1));
+    }
+
+    /**
+     * 느린 디스크/네트워크를 흉내 내는 업로드 파일 (처음 읽을 때 활성 커넥션 수를 기록하고 대기)
+     */
+    private class SlowMultipartFile extends MockMultipartFile {
+        SlowMultipartFile(String fileName, byte[] content) {
+            super("files", fileName, "application/octet-stream", content);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                private boolean delayed;
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    if (!delayed) {
+                        delayed = true;
+                        ACTIVE_CONNECTIONS_DURING_UPLOAD.add(dataSource.getHikariPoolMXBean().getActiveConnections());
+                        try {
+                            Thread.sleep(UPLOAD_MILLIS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException(e);
+                        }
+                    }
+                    return super.read(b, off, len);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.rsupport.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rsupport.api.cache.NoticeDetailCache;
+import com.rsupport.api.dto.NoticeDetailResponseDto;
+import com.rsupport.api.event.NoticeChangeBroadcaster;
+import com.rsupport.api.event.NoticeChangeType;
+import com.rsupport.api.event.NoticeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 공지사항 상세 2단 캐시의 조회/무효화와, 무효화 이전에 읽은 내용이 다시 저장되지 않는지 검증
+ * 다른 노드는 같은 Redis를 사용하는 별도 NoticeDetailCache 인스턴스로 대신함
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:detail-cache",
+        "spring.data.redis.database=13"
+})
+class NoticeDetailCacheTest {
+
+    @Autowired
+    private NoticeDetailCache noticeDetailCache;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private NoticeDetailCache otherNode;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("notice:detail:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        otherNode = new NoticeDetailCache(redisTemplate, objectMapper, 100, Duration.ofSeconds(30), Duration.ofMinutes(1), Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("상세 캐시 테스트 1. 저장한 상세는 로컬 캐시와 다른 노드(공유 캐시)에서 조회됨")
+    void testGet_HitsLocalAndSharedCache() {
+        noticeDetailCache.put(detail(1L, "제목", 1L), noticeDetailCache.generation());
+
+        assertEquals("제목", noticeDetailCache.get(1L).map(NoticeDetailResponseDto::getTitle).orElseThrow());
+        assertEquals("제목", otherNode.get(1L).map(NoticeDetailResponseDto::getTitle).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("상세 캐시 테스트 2. 무효화하면 로컬/공유 캐시 모두 비움")
+    void testEvict_ClearsLocalAndSharedCache() {
+        noticeDetailCache.put(detail(2L, "제목", 1L), noticeDetailCache.generation());
+
+        noticeDetailCache.evict(NoticeChangedEvent.of(2L, NoticeChangeType.UPDATED));
+
+        assertFalse(redisTemplate.hasKey("notice:detail:2"));
+        assertTrue(noticeDetailCache.get(2L).isEmpty());
+        assertTrue(otherNode.get(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("상세 캐시 테스트 3. 무효화 이전에 읽은 상세는 무효화 이후에 저장되지 않음")
+    void testPut_SkipsReadBeforeEvict() {
+        long generation = noticeDetailCache.generation();
+        NoticeDetailResponseDto stale = detail(3L, "수정 전", 1L); // 수정 커밋 전에 읽은 내용
+
+        noticeDetailCache.evict(NoticeChangedEvent.of(3L, NoticeChangeType.UPDATED)); // 수정 커밋 이후 무효화
+        noticeDetailCache.put(stale, generation);
+        otherNode.put(stale, otherNode.generation()); // 무효화를 아직 전달받지 못한 다른 노드
+
+        assertFalse(redisTemplate.hasKey("notice:detail:3"));
+        assertTrue(noticeDetailCache.get(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("상세 캐시 테스트 4. 공유 캐시에 더 최신 버전이 있으면 이전 버전으로 덮어쓰지 않음")
+    void testPut_KeepsNewerVersion() {
+        noticeDetailCache.put(detail(4L, "수정 후", 2L), noticeDetailCache.generation());
+        otherNode.put(detail(4L, "수정 전", 1L), otherNode.generation());
+
+        assertEquals("수정 후", otherNode.get(4L).map(NoticeDetailResponseDto::getTitle).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("상세 캐시 테스트 5. 다른 노드의 변경 메시지를 받으면 로컬 캐시를 비우고, 형식이 잘못된 메시지는 무시")
+    void testBroadcast_EvictsLocalCacheOnRemoteChange() throws Exception {
+        noticeDetailCache.put(detail(5L, "제목", 1L), noticeDetailCache.generation());
+        redisTemplate.delete("notice:detail:5"); // 로컬 캐시에만 남김
+
+        redisTemplate.convertAndSend(NoticeChangeBroadcaster.CHANNEL, "broken");
+        redisTemplate.convertAndSend(NoticeChangeBroadcaster.CHANNEL, "other-node|UNKNOWN|5");
+        redisTemplate.convertAndSend(NoticeChangeBroadcaster.CHANNEL, "other-node|UPDATED|5");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        Optional<NoticeDetailResponseDto> cached = noticeDetailCache.get(5L);
+        while (cached.isPresent() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            cached = noticeDetailCache.get(5L);
+        }
+        assertTrue(cached.isEmpty());
+    }
+
+    private NoticeDetailResponseDto detail(Long id, String title, Long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return new NoticeDetailResponseDto(id, title, "내용", "admin", now, 0, List.of(), now, version);
+    }
+}
@@ -0,0 +1,136 @@
+package com.rsupport.api;
+
+import com.rsupport.api.dto.enums.DataFormat;
+import com.rsupport.api.service.NoticeExportService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * chunk-size보다 많은 공지사항을 내보내서 chunk를 이어 읽으며 끝까지 스트리밍되는지 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notice-export",
+        "notice.export.chunk-size=50"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NoticeExportTest {
+    private static final int ROWS = 230;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoticeExportService noticeExportService;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        LocalDateTime startAt = LocalDateTime.now().minusDays(1);
+        LocalDateTime endAt = startAt.plusDays(10);
+        StringBuilder body = new StringBuilder("title,content,startAt,endAt\n");
+        for (int i = 1; i <= ROWS; i++) {
+            String title = i % 10 == 0 ? "점검 공지 " + i : "일반 공지 " + i;
+            body.append(title).append(",\"내용, ").append(i).append("\n\"\"둘째 줄\"\"\",")
+                    .append(startAt).append(',').append(endAt).append('\n');
+        }
+        body.append("만료 공지,내용,").append(startAt.minusDays(30)).append(',').append(startAt.minusDays(20)).append('\n');
+
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/notices/import")
+                        .session(session)
+                        .contentType("text/csv")
+                        .content(body.toString().getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("내보내기 테스트 1. 게시 중인 공지사항 전체를 NDJSON으로 스트리밍")
+    void testExportNdjson_StreamsAllActiveNotices() throws Exception {
+        String body = export("NDJSON", null, null);
+
+        String[] lines = body.split("\n");
+        assertEquals(ROWS, lines.length); // 게시 기간이 지난 공지는 제외
+        assertTrue(lines[0].contains("\"title\":\"점검 공지 230\""), lines[0]); // 작성일 역순
+        assertTrue(body.endsWith("\n"));
+    }
+
+    @Test
+    @DisplayName("내보내기 테스트 2. 검색 조건을 적용하고 CSV 필드를 다시 등록할 수 있게 인용")
+    void testExportCsv_AppliesSearchConditions() throws Exception {
+        String body = export("CSV", "TITLE", "점검");
+
+        assertTrue(body.startsWith("id,title,content,author,createdAt,startAt,endAt,viewCount\n"));
+        assertTrue(body.contains(",점검 공지 10,\"내용, 10\n\"\"둘째 줄\"\"\",admin,"), body);
+        assertEquals(ROWS / 10, body.split("\n\"\"둘째 줄").length - 1);
+    }
+
+    @Test
+    @DisplayName("내보내기 테스트 3. 응답에 쓰는 동안 DB 커넥션을 잡지 않음")
+    void testExport_DoesNotHoldConnectionWhileWriting() throws Exception {
+        List<Integer> activeConnections = new ArrayList<>();
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                activeConnections.add(dataSource.getHikariPoolMXBean().getActiveConnections());
+                written.write(b, off, len);
+            }
+        };
+
+        noticeExportService.exportNotices(DataFormat.NDJSON, null, null, null, null, out);
+
+        assertEquals(ROWS, written.toString(StandardCharsets.UTF_8).split("\n").length);
+        assertTrue(activeConnections.size() > 1, activeConnections.toString()); // chunk 사이에도 응답에 씀
+        assertTrue(activeConnections.stream().allMatch(count -> count == 0), activeConnections.toString());
+    }
+
+    private String export(String format, String searchType, String keyword) throws Exception {
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get("/api/notices/export").param("format", format);
+        if (searchType != null) {
+            builder.param("searchType", searchType).param("keyword", keyword);
+        }
+
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Content-Disposition"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,116 @@
+package com.rsupport.api;
+
+import com.rsupport.api.event.NoticesImportedEvent;
+import com.rsupport.api.repository.NoticeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notice-import",
+        "notice.import.chunk-size=100"
+})
+@AutoConfigureMockMvc
+@RecordApplicationEvents
+class NoticeImportTest {
+    private static final int ROWS = 1050;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    @DisplayName("일괄 등록 테스트 1. NDJSON을 chunk 단위로 저장하고 잘못된 행은 행 번호와 함께 보고")
+    void testImportNdjson_ReportsInvalidRows() throws Exception {
+        LocalDateTime startAt = LocalDateTime.now().minusDays(1);
+        LocalDateTime endAt = startAt.plusDays(10);
+        StringBuilder body = new StringBuilder();
+        for (int i = 1; i <= ROWS; i++) {
+            body.append("{\"title\":\"일괄 공지 ").append(i).append("\",\"content\":\"내용\",")
+                    .append("\"startAt\":\"").append(startAt).append("\",\"endAt\":\"").append(endAt).append("\"}\n");
+        }
+        body.append("{\"title\":\"\",\"content\":\"내용\",\"startAt\":\"").append(startAt).append("\",\"endAt\":\"").append(endAt).append("\"}\n");
+        body.append("\n");
+        body.append("{\"title\":\"깨진 JSON\"\n");
+
+        long before = noticeRepository.count();
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/notices/import")
+                        .session(session())
+                        .contentType("application/x-ndjson")
+                        .content(body.toString().getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(ROWS + 2))
+                .andExpect(jsonPath("$.imported").value(ROWS))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].row").value(ROWS + 1))
+                .andExpect(jsonPath("$.errors[0].messages[0]").value(startsWith("title:")))
+                .andExpect(jsonPath("$.errors[1].row").value(ROWS + 2));
+
+        assertEquals(before + ROWS, noticeRepository.count());
+
+        // 등록한 공지 전체에 대해 변경 이벤트를 한 번 발행
+        List<NoticesImportedEvent> events = applicationEvents.stream(NoticesImportedEvent.class).toList();
+        assertEquals(1, events.size());
+        assertEquals(ROWS, events.get(0).getNoticeIds().size());
+
+        // 검색 색인도 함께 저장됨
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices")
+                        .param("searchType", "TITLE")
+                        .param("keyword", "일괄 공지 1049"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("일괄 공지 1049"));
+    }
+
+    @Test
+    @DisplayName("일괄 등록 테스트 2. CSV의 따옴표 필드(쉼표, 줄바꿈 포함)와 날짜 형식 오류 처리")
+    void testImportCsv_ParsesQuotedFields() throws Exception {
+        String body = """
+                content,title,startAt,endAt
+                "첫 줄, 쉼표
+                둘째 줄 ""인용""",CSV 공지,2025-03-18T00:00:00,2099-12-31T23:59:59
+                내용,날짜 오류,2025-03-18,2099-12-31T23:59:59
+                """;
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/api/notices/import")
+                        .session(session())
+                        .contentType("text/csv")
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices")
+                        .param("searchType", "TITLE")
+                        .param("keyword", "CSV 공지"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("CSV 공지"));
+    }
+
+    private MockHttpSession session() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        return session;
+    }
+}
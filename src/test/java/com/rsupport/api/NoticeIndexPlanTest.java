@@ -0,0 +1,102 @@
+package com.rsupport.api;
+
+import com.rsupport.api.dto.enums.SearchType;
+import com.rsupport.api.repository.NoticeRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 목록 조회 쿼리의 실행 계획 검증
+ * Criteria 값을 SQL에 인라인하여 Hibernate가 만든 SQL을 그대로 EXPLAIN
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:index-plan",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.rsupport.api.NoticeIndexPlanTest$SqlCapture"
+})
+class NoticeIndexPlanTest {
+    private static final int NOTICE_COUNT = 2_000;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (noticeRepository.count() > 0) return;
+
+        // 게시 기간이 지난 공지가 대부분인 상태
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < NOTICE_COUNT; i++) {
+            LocalDateTime startAt = now.minusDays(NOTICE_COUNT - i);
+            rows.add(new Object[]{i + 1, "Title " + i, "Content " + i, Timestamp.valueOf(startAt),
+                    Timestamp.valueOf(startAt.plusDays(7)), Timestamp.valueOf(startAt), Timestamp.valueOf(startAt), 0, 1L});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO NOTICE (ID, TITLE, CONTENT, START_AT, END_AT, CREATED_AT, UPDATED_AT, VERSION, VIEW_COUNT, AUTHOR_ID) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("실행 계획 테스트 1. 검색 조건이 없으면 게시 기간 인덱스 사용")
+    void testSearchNotices_UsesActiveWindowIndex() {
+        String plan = explain(() -> noticeRepository.searchNotices(null, null, null, null, LocalDateTime.now(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        assertTrue(plan.contains("IDX_NOTICE_ACTIVE_WINDOW"), plan);
+        assertTrue(plan.contains("IDX_ATTACHMENT_NOTICE_ID"), plan);
+    }
+
+    @Test
+    @DisplayName("실행 계획 테스트 2. 값이 없는 검색 조건은 쿼리에 포함하지 않음")
+    void testSearchNotices_OmitsUnusedConditions() {
+        SqlCapture.STATEMENTS.clear();
+        noticeRepository.searchNotices(SearchType.TITLE, "Title 1", null, null, LocalDateTime.now(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        String sql = SqlCapture.STATEMENTS.peek().toLowerCase(Locale.ROOT);
+        assertFalse(sql.contains("is null"), sql);
+        assertFalse(sql.contains("content"), sql);
+    }
+
+    /**
+     * 목록 쿼리(첫 번째 SQL)를 EXPLAIN (인라인되지 않는 LIMIT/OFFSET 파라미터는 페이지 크기로 대체)
+     */
+    private String explain(Runnable query) {
+        SqlCapture.STATEMENTS.clear();
+        query.run();
+        String sql = SqlCapture.STATEMENTS.peek().replace("?", "10");
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    public static class SqlCapture implements StatementInspector {
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.rsupport.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rsupport.api.dto.UploadedFileDto;
+import com.rsupport.api.entity.Attachment;
 import com.rsupport.api.entity.Notice;
 import com.rsupport.api.entity.User;
 import com.rsupport.api.repository.NoticeRepository;
 import com.rsupport.api.repository.UserRepository;
+import com.rsupport.api.service.FileService;
 import com.rsupport.api.service.NoticeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,16 +16,30 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,6 +62,12 @@ public class NoticeIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private FileService fileService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
 
     @BeforeEach
     void setUp() {
@@ -80,6 +104,45 @@ public class NoticeIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("공지 목록 커서 조회 API 테스트 1. 다음 커서로 이어서 조회")
+    void testGetNoticesByCursor_Success() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            noticeRepository.save(Notice.builder()
+                    .title("Cursor Title " + i)
+                    .content("Cursor Content")
+                    .author(userRepository.findById(1L).orElse(new User(1L, "admin")))
+                    .startAt(LocalDateTime.now().minusDays(3))
+                    .endAt(LocalDateTime.now().plusDays(3))
+                    .attachments(new ArrayList<>())
+                    .viewCount(0)
+                    .build());
+        }
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.get("/api/notices/scroll")
+                        .param("size", "2")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices/scroll")
+                        .param("size", "2")
+                        .param("cursor", objectMapper.readTree(body).get("nextCursor").asText())
+                        .session(session))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("공지 목록 커서 조회 API 테스트 2. 잘못된 커서")
+    void testGetNoticesByCursor_InvalidCursor() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices/scroll")
+                        .param("cursor", "not-a-cursor")
+                        .session(session))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("공지 상세 조회 API 테스트 1. 정상 조회")
     void testGetNotice_Success() throws Exception {
@@ -112,6 +175,173 @@ public class NoticeIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("공지 상세 조회 API 테스트 3. ETag가 같으면 304, 수정되면 새 ETag로 응답")
+    void testGetNotice_ConditionalRequest() throws Exception {
+        Notice notice = noticeRepository.save(Notice.builder()
+                .title("ETag Title")
+                .content("ETag Content")
+                .author(userRepository.findById(1L).orElse(new User(1L, "admin")))
+                .startAt(LocalDateTime.now().minusDays(3))
+                .endAt(LocalDateTime.now().plusDays(3))
+                .attachments(new ArrayList<>())
+                .viewCount(0)
+                .build());
+        String url = "/api/notices/" + notice.getId();
+
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(MockMvcRequestBuilders.multipart(HttpMethod.PUT, url)
+                        .param("title", "ETag Title 2")
+                        .session(session)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.title").value("ETag Title 2"));
+    }
+
+    @Test
+    @DisplayName("공지 상세 조회 API 테스트 4. Accept-Encoding에 gzip이 있으면 압축된 본문과 별도 ETag로 응답")
+    void testGetNotice_GzipEncoded() throws Exception {
+        Notice notice = noticeRepository.save(Notice.builder()
+                .title("Gzip Title")
+                .content("Gzip Content ".repeat(100))
+                .author(userRepository.findById(1L).orElse(new User(1L, "admin")))
+                .startAt(LocalDateTime.now().minusDays(3))
+                .endAt(LocalDateTime.now().plusDays(3))
+                .attachments(new ArrayList<>())
+                .viewCount(0)
+                .build());
+        String url = "/api/notices/" + notice.getId();
+
+        String identityEtag = mockMvc.perform(MockMvcRequestBuilders.get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, not(identityEtag)))
+                .andReturn().getResponse();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            JsonNode body = objectMapper.readTree(in);
+            assertEquals("Gzip Title", body.get("title").asText());
+        }
+
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, response.getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("공지 목록 조회 API 테스트 4. 집계 ETag가 같으면 304, 공지가 추가되면 200")
+    void testGetNotices_ConditionalRequest() throws Exception {
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get("/api/notices"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 게시 중인 공지 목록(메모리)에서 응답하는 경우 ETag도 같은 목록에서 만들므로 등록 API(변경 이벤트)로 추가
+        mockMvc.perform(MockMvcRequestBuilders.multipart("/api/notices")
+                        .param("title", "ETag List Title")
+                        .param("content", "ETag List Content")
+                        .param("startAt", LocalDateTime.now().minusDays(3).toString())
+                        .param("endAt", LocalDateTime.now().plusDays(3).toString())
+                        .session(session)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+                .andExpect(jsonPath("$.content[0].title").value("ETag List Title"));
+    }
+
+    @Test
+    @DisplayName("첨부파일 다운로드 API 테스트 1. 전체 다운로드 후 ETag 재검증")
+    void testDownloadAttachment_Success() throws Exception {
+        Attachment attachment = saveNoticeWithAttachment("0123456789");
+        String url = "/api/notices/" + attachment.getNotice().getId() + "/attachments/" + attachment.getId();
+
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(content().string("0123456789"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag)
+                        .session(session))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("첨부파일 다운로드 API 테스트 2. Range 요청")
+    void testDownloadAttachment_Range() throws Exception {
+        Attachment attachment = saveNoticeWithAttachment("0123456789");
+        String url = "/api/notices/" + attachment.getNotice().getId() + "/attachments/" + attachment.getId();
+
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .session(session))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.RANGE, "bytes=20-")
+                        .session(session))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        // 형식이 잘못된 Range는 무시하고 전체 파일로 응답
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.RANGE, "bytes=5-2")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().string("0123456789"));
+        mockMvc.perform(MockMvcRequestBuilders.get(url)
+                        .header(HttpHeaders.RANGE, "items=0-1")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    @DisplayName("첨부파일 다운로드 API 테스트 3. 잘못된 attachment id")
+    void testDownloadAttachment_NotFound() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices/9999/attachments/9999")
+                        .session(session))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("공지 등록 API 테스트 1. 정상 등록")
     void testCreateNotice_Success() throws Exception {
@@ -233,4 +463,48 @@ public class NoticeIntegrationTest {
                         .session(session))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("공지 삭제 API 테스트 3. 첨부파일은 커밋 이후에만 삭제")
+    void testDeleteNotice_DeletesFilesAfterCommit() throws Exception {
+        Attachment attachment = saveNoticeWithAttachment("delete after commit");
+        Long noticeId = attachment.getNotice().getId();
+        Path path = Path.of(attachment.getFileUrl());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            noticeService.deleteNotice(noticeId);
+            status.setRollbackOnly();
+        });
+        assertTrue(Files.exists(path));
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/notices/" + noticeId)
+                        .session(session))
+                .andExpect(status().isOk());
+        assertFalse(Files.exists(path));
+    }
+
+    private Attachment saveNoticeWithAttachment(String content) throws Exception {
+        Notice notice = Notice.builder()
+                .title("Download Title")
+                .content("Download Content")
+                .author(userRepository.findById(1L).orElse(new User(1L, "admin")))
+                .startAt(LocalDateTime.now().minusDays(3))
+                .endAt(LocalDateTime.now().plusDays(3))
+                .attachments(new ArrayList<>())
+                .viewCount(0)
+                .build();
+
+        UploadedFileDto uploaded = fileService.upload(
+                new MockMultipartFile("files", "download.txt", "text/plain", content.getBytes()));
+        Attachment attachment = Attachment.builder()
+                .fileName("download.txt")
+                .fileUrl(uploaded.getPath())
+                .fileSize(uploaded.getSize())
+                .checksum(uploaded.getChecksum())
+                .notice(notice)
+                .build();
+        notice.getAttachments().add(attachment);
+        noticeRepository.save(notice);
+        return attachment;
+    }
 }
@@ -0,0 +1,73 @@
+package com.rsupport.api;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:metrics",
+        "notice.active-registry.enabled=false" // 목록 조회를 DB에서 실행
+})
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class NoticeMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("메트릭 테스트 1. 서비스 메서드 시간과 요청당 쿼리 수를 기록하고 Prometheus로 노출")
+    void testMetrics_RecordedAndExposed() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+        mockMvc.perform(MockMvcRequestBuilders.multipart("/api/notices")
+                        .param("title", "Title")
+                        .param("content", "Content")
+                        .param("startAt", LocalDateTime.now().minusDays(1).toString())
+                        .param("endAt", LocalDateTime.now().plusDays(1).toString())
+                        .session(session)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isOk());
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices"))
+                .andExpect(status().isOk());
+
+        Timer getNotices = meterRegistry.find("notice.service").tag("method", "getNotices").timer();
+        assertNotNull(getNotices);
+        assertTrue(getNotices.count() >= 1);
+
+        DistributionSummary queries = meterRegistry.find("notice.http.db.queries")
+                .tags("method", "GET", "uri", "/api/notices")
+                .summary();
+        assertNotNull(queries);
+        assertTrue(queries.totalAmount() >= 1, "목록 조회 쿼리 수: " + queries.totalAmount());
+
+        assertNotNull(meterRegistry.find("notice.view_count.pending").gauge());
+        assertNotNull(meterRegistry.find("notice.view_count.flush.last.duration").timeGauge());
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("notice_service_seconds_bucket{")))
+                .andExpect(content().string(containsString("notice_http_db_queries_count{")));
+    }
+}
@@ -0,0 +1,116 @@
+package com.rsupport.api;
+
+import com.rsupport.api.cache.NoticeDetailCache;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.dto.NoticeVersionDto;
+import com.rsupport.api.entity.Attachment;
+import com.rsupport.api.entity.CacheRegions;
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.event.NoticeChangeType;
+import com.rsupport.api.event.NoticeChangedEvent;
+import com.rsupport.api.repository.NoticeRepository;
+import com.rsupport.api.repository.UserRepository;
+import com.rsupport.api.service.NoticeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "notice.active-registry.enabled=false" // DB 조회 경로 검증
+})
+class NoticeQueryCountTest {
+    private static final int NOTICE_COUNT = 120;
+
+    @Autowired
+    private NoticeService noticeService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private NoticeDetailCache noticeDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        // 페이지 크기가 달라도 COUNT 쿼리는 같으므로, 이전 실행의 결과가 쿼리 캐시에서 나오지 않도록 비움
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CacheRegions.NOTICE_LIST_QUERY);
+        if (noticeRepository.count() > 0) return;
+
+        List<Notice> notices = new ArrayList<>();
+        for (int i = 0; i < NOTICE_COUNT; i++) {
+            Notice notice = Notice.builder()
+                    .title("Title " + i)
+                    .content("Content " + i)
+                    .author(userRepository.findById(1L).orElseThrow())
+                    .startAt(LocalDateTime.now().minusDays(3))
+                    .endAt(LocalDateTime.now().plusDays(3))
+                    .attachments(new ArrayList<>())
+                    .viewCount(0)
+                    .build();
+            if (i % 2 == 0) {
+                notice.getAttachments().add(Attachment.builder()
+                        .fileName("file.txt")
+                        .fileUrl("uploads/file.txt")
+                        .notice(notice)
+                        .build());
+            }
+            notices.add(notice);
+        }
+        noticeRepository.saveAll(notices);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100})
+    @DisplayName("공지 목록 조회 쿼리 수 테스트. 페이지 크기와 관계없이 목록 1회 + COUNT 1회")
+    void testGetNotices_QueryCountIsIndependentOfPageSize(int size) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<NoticeListResponseDto> page = noticeService.getNotices(null, null, null, null,
+                PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertEquals(size, page.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("공지 상세 버전 조회 쿼리 수 테스트. 상세 캐시에 없으면 작성자/첨부파일 없이 버전 컬럼만 1회 조회")
+    void testGetNoticeVersion_DoesNotLoadEntityGraph() {
+        Long id = noticeRepository.findAll(PageRequest.of(0, 1)).getContent().get(0).getId();
+        noticeDetailCache.evict(NoticeChangedEvent.of(id, NoticeChangeType.UPDATED)); // 공유 캐시에 남은 다른 테스트의 상세 응답 제거
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        NoticeVersionDto version = noticeService.getNoticeVersion(id);
+
+        assertEquals(id, version.getId());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+}
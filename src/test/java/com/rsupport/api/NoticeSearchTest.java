@@ -0,0 +1,164 @@
+package com.rsupport.api;
+
+import com.rsupport.api.service.NoticeSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * n-gram 역색인 검색이 기존 LIKE 검색과 같은 결과를 돌려주는지, 색인이 등록/수정/삭제/백필로 유지되는지 검증
+ * 테스트마다 다른 단어를 사용하여 서로의 공지가 검색되지 않도록 함
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:notice-search")
+@AutoConfigureMockMvc
+class NoticeSearchTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoticeSearchService noticeSearchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = new MockHttpSession();
+        session.setAttribute("userId", 1L);
+    }
+
+    @Test
+    @DisplayName("검색 테스트 1. 토큰을 모두 포함하고 검색어를 그대로 포함하는 공지만 조회")
+    void testSearch_MatchesAllTokensAndSubstring() throws Exception {
+        createNotice("서버 점검 안내", "내용");
+        createNotice("점검 서버 목록", "내용");  // 토큰은 모두 포함하지만 검색어를 그대로 포함하지 않음
+        createNotice("서버 증설 안내", "내용");  // '점검' 토큰 없음
+
+        search("TITLE", "서버 점검")
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("서버 점검 안내"));
+    }
+
+    @Test
+    @DisplayName("검색 테스트 2. 기본 정렬은 제목 가중치가 반영된 점수순, sort=createdAt이면 최신순")
+    void testSearch_RanksByScoreUnlessSortedByCreatedAt() throws Exception {
+        createNotice("배포 일정", "내용");
+        createNotice("다른 공지", "배포 일정 안내");  // 내용에만 포함되어 점수는 낮지만 더 최신
+
+        search("TITLE_CONTENT", "배포")
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("배포 일정"))
+                .andExpect(jsonPath("$.content[1].title").value("다른 공지"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices")
+                        .param("searchType", "TITLE_CONTENT")
+                        .param("keyword", "배포")
+                        .param("sort", "createdAt")
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("다른 공지"))
+                .andExpect(jsonPath("$.content[1].title").value("배포 일정"));
+    }
+
+    @Test
+    @DisplayName("검색 테스트 3. 한 글자 검색어와 한 글자 단어가 섞인 검색어도 LIKE와 같은 결과")
+    void testSearch_SingleCharacterKeyword() throws Exception {
+        createNotice("휴 일정", "내용");
+        createNotice("휴가 신청 A 양식", "내용");
+
+        search("TITLE", "휴")
+                .andExpect(jsonPath("$.totalElements").value(2));
+        search("TITLE", "신청 A")
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("휴가 신청 A 양식"));
+        search("TITLE", "신청 B")
+                .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("검색 테스트 4. 수정하면 이전 제목으로 검색되지 않고, 삭제하면 색인도 삭제")
+    void testSearch_MaintainsIndexOnUpdateAndDelete() throws Exception {
+        createNotice("설문 참여", "내용");
+        Long id = jdbcTemplate.queryForObject("SELECT ID FROM NOTICE WHERE TITLE = '설문 참여'", Long.class);
+
+        mockMvc.perform(MockMvcRequestBuilders.multipart(HttpMethod.PUT, "/api/notices/" + id)
+                        .param("title", "만족도 조사")
+                        .param("content", "")
+                        .param("startAt", "")
+                        .param("endAt", "")
+                        .session(session)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isOk());
+
+        search("TITLE", "설문").andExpect(jsonPath("$.totalElements").value(0));
+        search("TITLE", "만족도").andExpect(jsonPath("$.content[0].id").value(id));
+
+        mockMvc.perform(MockMvcRequestBuilders.delete("/api/notices/" + id)
+                        .session(session))
+                .andExpect(status().isOk());
+
+        assertEquals(0, tokenCount(id));
+        search("TITLE", "만족도").andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("검색 테스트 5. 서비스를 거치지 않고 저장된 공지는 재색인 후 검색됨")
+    void testSearch_ReindexesRowsWrittenOutsideService() throws Exception {
+        long id = 1_000_000L;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO NOTICE (ID, TITLE, CONTENT, START_AT, END_AT, CREATED_AT, UPDATED_AT, VERSION, VIEW_COUNT, AUTHOR_ID) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, 0, 0, 1)",
+                id, "직접 적재 공지", "내용", Timestamp.valueOf(LocalDateTime.now().minusDays(1)),
+                Timestamp.valueOf(LocalDateTime.now().plusDays(1)), now, now);
+
+        search("TITLE", "직접 적재").andExpect(jsonPath("$.totalElements").value(0));
+
+        noticeSearchService.reindexMissing();
+
+        assertTrue(tokenCount(id) > 0);
+        search("TITLE", "직접 적재").andExpect(jsonPath("$.content[0].id").value(id));
+    }
+
+    private void createNotice(String title, String content) throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.multipart("/api/notices")
+                        .param("title", title)
+                        .param("content", content)
+                        .param("startAt", LocalDateTime.now().minusDays(1).toString())
+                        .param("endAt", LocalDateTime.now().plusDays(1).toString())
+                        .session(session)
+                        .contentType(MediaType.MULTIPART_FORM_DATA))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions search(String searchType, String keyword) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get("/api/notices")
+                        .param("searchType", searchType)
+                        .param("keyword", keyword)
+                        .session(session))
+                .andExpect(status().isOk());
+    }
+
+    private int tokenCount(Long noticeId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM NOTICE_SEARCH_TOKEN WHERE NOTICE_ID = ?", Integer.class, noticeId);
+    }
+}
@@ -1,16 +1,21 @@
 package com.rsupport.api;
 
+import com.rsupport.api.cache.ActiveNoticeRegistry;
+import com.rsupport.api.cache.NoticeDetailCache;
 import com.rsupport.api.dto.NoticeDetailResponseDto;
 import com.rsupport.api.dto.NoticeRequestDto;
 import com.rsupport.api.entity.Notice;
 import com.rsupport.api.entity.User;
+import com.rsupport.api.identity.CurrentUserProvider;
 import com.rsupport.api.repository.AttachmentRepository;
 import com.rsupport.api.repository.NoticeRepository;
 import com.rsupport.api.repository.UserRepository;
-import com.rsupport.api.service.FileService;
+import com.rsupport.api.dto.UploadedFileDto;
+import com.rsupport.api.service.AttachmentUploader;
+import com.rsupport.api.service.NoticeSearchService;
 import com.rsupport.api.service.NoticeServiceImpl;
+import com.rsupport.api.service.ViewCountService;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.servlet.http.HttpSession;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,9 +23,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -42,19 +51,31 @@ class NoticeServiceTest {
     private AttachmentRepository attachmentRepository;
 
     @Mock
-    private FileService fileService;
+    private NoticeSearchService noticeSearchService;
 
     @Mock
-    private HttpSession session;
+    private NoticeDetailCache noticeDetailCache;
+
+    @Mock
+    private ActiveNoticeRegistry activeNoticeRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
 
     @Mock
     private UserRepository userRepository;
 
     @Mock
-    private StringRedisTemplate redisTemplate;
+    private ViewCountService viewCountService;
 
     @Mock
-    private ValueOperations<String, String> valueOperations;
+    private AttachmentUploader attachmentUploader;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
 
     @InjectMocks
     private NoticeServiceImpl noticeService;
@@ -82,7 +103,7 @@ class NoticeServiceTest {
     @Test
     @DisplayName("공지 저장 테스트 1. 저장 성공")
     void testSaveNotice_Success() {
-        Mockito.lenient().when(session.getAttribute("userId")).thenReturn(1L);
+        Mockito.lenient().when(currentUserProvider.getCurrentUserId()).thenReturn(1L);
         Mockito.lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
 
         NoticeRequestDto requestDto = new NoticeRequestDto("New Title", "New Content",
@@ -98,7 +119,7 @@ class NoticeServiceTest {
     @Test
     @DisplayName("공지 저장 테스트 2. 세션에 사용자 정보가 없음")
     void testSaveNotice_DoNotFindUserIdInSession() {
-        Mockito.lenient().when(session.getAttribute("userId")).thenReturn(1L);
+        when(currentUserProvider.getCurrentUserId()).thenThrow(new IllegalArgumentException("세션에서 사용자 정보를 찾을 수 없습니다."));
 
         NoticeRequestDto requestDto = new NoticeRequestDto("New Title", "New Content",
                 LocalDateTime.now(), LocalDateTime.now().plusDays(1), 1L, List.of());
@@ -111,7 +132,7 @@ class NoticeServiceTest {
     @Test
     @DisplayName("공지 저장 테스트 2. 세션의 사용자 정보를 바탕으로 사용자를 찾을 수 없음")
     void testSaveNotice_DoNotFoundUser() {
-        Mockito.lenient().when(session.getAttribute("userId")).thenReturn(2L);
+        Mockito.lenient().when(currentUserProvider.getCurrentUserId()).thenReturn(2L);
         Mockito.lenient().when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
 
         NoticeRequestDto requestDto = new NoticeRequestDto("New Title", "New Content",
@@ -122,17 +143,31 @@ class NoticeServiceTest {
         ));
     }
 
+    @Test
+    @DisplayName("공지 저장 테스트 4. 메타데이터 저장에 실패하면 저장한 파일 정리")
+    void testSaveNotice_CleansUpUploadedFilesOnFailure() {
+        when(currentUserProvider.getCurrentUserId()).thenReturn(1L);
+        List<MultipartFile> files = List.of(new MockMultipartFile("files", "test.txt", "text/plain", "Test content".getBytes()));
+        List<UploadedFileDto> uploaded = List.of(new UploadedFileDto("uploads/test.txt", 12, "0".repeat(64)));
+        when(attachmentUploader.uploadAll(files)).thenReturn(uploaded);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(mockUser));
+        when(noticeRepository.save(any(Notice.class))).thenThrow(new IllegalStateException("DB 오류"));
+
+        assertThrows(IllegalStateException.class, () -> noticeService.saveNotice(
+                "New Title", "New Content", LocalDateTime.now(), LocalDateTime.now().plusDays(1), files
+        ));
+        verify(attachmentUploader, times(1)).deleteAll(uploaded);
+    }
+
     @Test
     @DisplayName("공지 조회 테스트 1. 조회 성공")
     void testGetNotice_Success() {
         when(noticeRepository.findById(1L)).thenReturn(Optional.of(testNotice));
 
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations); // Redis Mock 설정
-        when(valueOperations.increment(anyString(), anyLong())).thenReturn(1L); // 조회수 증가 처리 Mocking
-
         NoticeDetailResponseDto response = noticeService.getNotice(1L);
         assertNotNull(response);
         assertEquals("Test Title", response.getTitle());
+        verify(viewCountService, times(1)).increment(1L); // 조회수 증가 확인
     }
 
     @Test
@@ -0,0 +1,192 @@
+package com.rsupport.api;
+
+import com.rsupport.api.stream.NoticeStreamHub;
+import com.rsupport.api.stream.NoticeStreamPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 재연결한 구독자에게 Last-Event-ID 이후의 보관된 이벤트를 이어서 보내는지 검증
+ * 다른 테스트가 발행한 이벤트 id와 겹치지 않도록 큰 id부터 테스트 실행 순서대로 발급
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notice-stream",
+        "notice.stream.buffer-size=2",
+        "notice.stream.replay-size=3"
+})
+@AutoConfigureMockMvc
+class NoticeStreamTest {
+    private static final AtomicLong SEQUENCE = new AtomicLong(1_000_000_000_000L);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private NoticeStreamHub noticeStreamHub;
+
+    @Test
+    @DisplayName("공지사항 스트림 테스트 1. Last-Event-ID 이후의 이벤트를 이어서 전송")
+    void testStream_ReplaysAfterLastEventId() throws Exception {
+        long created = publish("CREATED", 1L);
+        long updated = publish("UPDATED", 1L);
+        long deleted = publish("DELETED", 1L);
+
+        String body = awaitBody(subscribe(created), "id:" + deleted);
+
+        assertFalse(body.contains("id:" + created + "\n"), body);
+        assertTrue(body.contains("id:" + updated + "\nevent:updated\ndata:{\"type\":\"UPDATED\",\"noticeId\":1,"), body);
+        assertTrue(body.contains("event:deleted"), body);
+    }
+
+    @Test
+    @DisplayName("공지사항 스트림 테스트 2. 놓친 이벤트가 대기열보다 많으면 reset 이벤트 전송")
+    void testStream_ResetsWhenReplayExceedsBuffer() throws Exception {
+        long lastEventId = SEQUENCE.get();
+        publish("CREATED", 2L);
+        publish("ACTIVATED", 2L);
+        publish("EXPIRED", 2L);
+
+        String body = awaitBody(subscribe(lastEventId), "event:reset");
+
+        assertFalse(body.contains("event:created"), body);
+    }
+
+    @Test
+    @DisplayName("공지사항 스트림 테스트 3. 늦게 도착한 이벤트도 이벤트 id 순으로 이어서 전송")
+    void testStream_ReplaysInSequenceOrder() throws Exception {
+        long lastEventId = SEQUENCE.get();
+        long first = SEQUENCE.incrementAndGet();
+        long second = SEQUENCE.incrementAndGet();
+        publish(second, "UPDATED", 3L); // 다른 노드가 먼저 발행한 이벤트
+        publish(first, "CREATED", 3L);
+
+        String body = awaitBody(subscribe(lastEventId), "id:" + second);
+
+        assertFalse(body.contains("event:reset"), body);
+        assertTrue(body.indexOf("id:" + first) < body.indexOf("id:" + second), body);
+    }
+
+    @Test
+    @DisplayName("공지사항 스트림 테스트 4. 보관한 이벤트 중 빠진 id가 있으면 reset 이벤트 전송")
+    void testStream_ResetsWhenSequenceHasGap() throws Exception {
+        long lastEventId = SEQUENCE.get();
+        SEQUENCE.incrementAndGet(); // 발행에 실패한 이벤트
+        publish("UPDATED", 4L);
+
+        String body = awaitBody(subscribe(lastEventId), "event:reset");
+
+        assertFalse(body.contains("event:updated"), body);
+    }
+
+    @Test
+    @DisplayName("공지사항 스트림 테스트 5. 형식이 잘못된 메시지는 무시하고 이후 이벤트를 계속 전송")
+    void testStream_IgnoresMalformedMessage() throws Exception {
+        long lastEventId = publish("CREATED", 5L);
+
+        for (String body : new String[]{"", "garbage", "1|UNKNOWN|5|0", "x|CREATED|5|0", "1|CREATED|5"}) {
+            assertDoesNotThrow(() -> send(body));
+        }
+        long updated = publish("UPDATED", 5L);
+
+        String body = awaitBody(subscribe(lastEventId), "id:" + updated);
+
+        assertFalse(body.contains("event:reset"), body);
+    }
+
+    @Test
+    @DisplayName("공지사항 스트림 테스트 6. 대기열이 가득 찬 느린 구독자는 연결을 끊음")
+    void testStream_DisconnectsSlowSubscriber() throws Exception {
+        MvcResult result = subscribeResult(publish("CREATED", 6L));
+
+        // 전송보다 빠르게 발행하여 대기열(2개)을 채움
+        long deadline = System.currentTimeMillis() + 5000;
+        long last = 0;
+        while (!isDispatched(result) && System.currentTimeMillis() < deadline) {
+            for (int i = 0; i < 100; i++) {
+                last = publish("UPDATED", 6L);
+            }
+        }
+
+        assertTrue(isDispatched(result), "느린 구독자의 연결이 끊기지 않음");
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertFalse(body.contains("id:" + last + "\n"), body);
+    }
+
+    @Test
+    @DisplayName("공지사항 스트림 테스트 7. 연결된 구독자에게 heartbeat 주석 전송")
+    void testStream_SendsHeartbeat() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get("/api/notices/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        noticeStreamHub.heartbeat();
+
+        awaitBody(response, ":heartbeat\n");
+    }
+
+    private long publish(String type, Long noticeId) {
+        long sequence = SEQUENCE.incrementAndGet();
+        publish(sequence, type, noticeId);
+        return sequence;
+    }
+
+    private void publish(long sequence, String type, Long noticeId) {
+        send(String.join("|", Long.toString(sequence), type, noticeId.toString(), Long.toString(System.currentTimeMillis())));
+    }
+
+    private void send(String body) {
+        noticeStreamHub.onMessage(new DefaultMessage(NoticeStreamPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+    }
+
+    private MockHttpServletResponse subscribe(long lastEventId) throws Exception {
+        return subscribeResult(lastEventId).getResponse();
+    }
+
+    private MvcResult subscribeResult(long lastEventId) throws Exception {
+        return mockMvc.perform(MockMvcRequestBuilders.get("/api/notices/stream")
+                        .header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    /**
+     * 연결이 끊기면 (emitter 완료) 비동기 요청이 다시 디스패치됨
+     */
+    private boolean isDispatched(MvcResult result) {
+        try {
+            result.getAsyncResult(0);
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private String awaitBody(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = response.getContentAsString(StandardCharsets.UTF_8);
+        while (!body.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = response.getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertTrue(body.contains(expected), body);
+        return body;
+    }
+}
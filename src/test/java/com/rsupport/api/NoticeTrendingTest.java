@@ -0,0 +1,102 @@
+package com.rsupport.api;
+
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.repository.NoticeRepository;
+import com.rsupport.api.repository.UserRepository;
+import com.rsupport.api.service.ViewCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Set;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 조회수 증가와 함께 기록한 시간 bucket을 합쳐 최근 조회수 순으로 응답하는지 검증
+ * 다른 테스트의 조회 기록과 섞이지 않도록 별도 Redis DB를 사용
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notice-trending",
+        "spring.data.redis.database=14"
+})
+@AutoConfigureMockMvc
+class NoticeTrendingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("notice:trending:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("인기 공지 조회 테스트 1. 기간 안의 조회수 순으로 응답하고 삭제된 공지는 제외")
+    void testGetTrending_OrderedByRecentViews() throws Exception {
+        Notice first = save("Trending 1");
+        Notice second = save("Trending 2");
+        Notice deleted = save("Trending 3");
+        view(first, 3);
+        view(second, 5);
+        view(deleted, 10);
+        noticeRepository.delete(deleted);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices/trending").param("window", "1h"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(second.getId()))
+                .andExpect(jsonPath("$[0].recentViewCount").value(5))
+                .andExpect(jsonPath("$[1].id").value(first.getId()))
+                .andExpect(jsonPath("$[1].recentViewCount").value(3));
+    }
+
+    @Test
+    @DisplayName("인기 공지 조회 테스트 2. 지원하지 않는 기간")
+    void testGetTrending_InvalidWindow() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/notices/trending").param("window", "30d"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Notice save(String title) {
+        return noticeRepository.save(Notice.builder()
+                .title(title)
+                .content("Trending Content")
+                .author(userRepository.findById(1L).orElseThrow())
+                .startAt(LocalDateTime.now().minusDays(3))
+                .endAt(LocalDateTime.now().plusDays(3))
+                .attachments(new ArrayList<>())
+                .viewCount(0)
+                .build());
+    }
+
+    private void view(Notice notice, int times) {
+        for (int i = 0; i < times; i++) {
+            viewCountService.increment(notice.getId());
+        }
+    }
+}
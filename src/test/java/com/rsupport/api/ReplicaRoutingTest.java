@@ -0,0 +1,97 @@
+package com.rsupport.api;
+
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.service.NoticeService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * H2 두 개를 primary/replica로 두고 읽기 전용 트랜잭션만 replica로 가는지 검증
+ * 기동 후 primary를 replica로 복사하고(SCRIPT/RUNSCRIPT), replica에만 공지를 추가하여 어느 쪽에서 읽었는지 구분
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "notice.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "notice.datasource.replica.maximum-pool-size=2",
+        "notice.active-registry.enabled=false" // 목록 조회를 DB에서 실행
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicaRoutingTest {
+    private static final String REPLICA_ONLY_TITLE = "Replica Only";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NoticeService noticeService;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        Path script = Files.createTempFile("routing-primary", ".sql");
+        try {
+            jdbcTemplate.execute("SCRIPT TO '" + script + "'");
+            JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+            replica.execute("RUNSCRIPT FROM '" + script + "'");
+
+            LocalDateTime now = LocalDateTime.now();
+            replica.update("INSERT INTO NOTICE (ID, TITLE, CONTENT, START_AT, END_AT, CREATED_AT, UPDATED_AT, VERSION, VIEW_COUNT, AUTHOR_ID) " +
+                            "VALUES (1000000, ?, 'Replica Content', ?, ?, ?, ?, 0, 0, 1)",
+                    REPLICA_ONLY_TITLE, Timestamp.valueOf(now.minusDays(1)), Timestamp.valueOf(now.plusDays(1)),
+                    Timestamp.valueOf(now), Timestamp.valueOf(now));
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    @Test
+    @DisplayName("읽기/쓰기 분리 테스트 1. 읽기 전용 트랜잭션만 replica 커넥션을 사용")
+    void testReadOnlyTransaction_RoutedToReplica() {
+        assertTrue(databaseUrl(true).contains("routing-replica"));
+        assertTrue(databaseUrl(false).contains("routing-primary"));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM NOTICE WHERE TITLE = ?", Integer.class, REPLICA_ONLY_TITLE));
+    }
+
+    @Test
+    @DisplayName("읽기/쓰기 분리 테스트 2. 공지 목록 조회는 replica에서 읽음")
+    void testGetNotices_ReadsFromReplica() {
+        List<NoticeListResponseDto> notices = noticeService.getNotices(null, null, LocalDateTime.now().minusDays(30), null,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent();
+
+        assertTrue(notices.stream().anyMatch(notice -> REPLICA_ONLY_TITLE.equals(notice.getTitle())));
+    }
+
+    private String databaseUrl(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getURL()));
+    }
+}
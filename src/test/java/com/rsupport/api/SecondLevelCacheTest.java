@@ -0,0 +1,140 @@
+package com.rsupport.api;
+
+import com.rsupport.api.dto.NoticeDetailResponseDto;
+import com.rsupport.api.dto.NoticeListResponseDto;
+import com.rsupport.api.entity.Attachment;
+import com.rsupport.api.entity.CacheRegions;
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.repository.NoticeRepository;
+import com.rsupport.api.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 조회가 대부분인 부하에서 2차 캐시/쿼리 캐시 적중률을 Hibernate 통계로 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:second-level-cache",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "notice.active-registry.enabled=false" // 목록 조회를 DB(쿼리 캐시)에서 실행
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SecondLevelCacheTest {
+    private static final int NOTICES = 20;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private final List<Long> noticeIds = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= NOTICES; i++) {
+                Notice notice = Notice.builder()
+                        .title("캐시 공지 " + i)
+                        .content("내용 " + i)
+                        .startAt(now.minusDays(1))
+                        .endAt(now.plusDays(10))
+                        .author(userRepository.getReferenceById(1L))
+                        .viewCount(0)
+                        .build();
+                notice.setAttachments(List.of(Attachment.builder()
+                        .fileName("file" + i + ".txt")
+                        .fileUrl("uploads/file" + i + ".txt")
+                        .fileSize(10L)
+                        .notice(notice)
+                        .build()));
+                noticeIds.add(noticeRepository.save(notice).getId());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("2차 캐시 테스트 1. 반복 상세 조회는 공지사항, 작성자, 첨부파일을 캐시에서 읽음")
+    void testFindById_HitsSecondLevelCache() {
+        statistics.clear();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (Long id : noticeIds) {
+                NoticeDetailResponseDto notice = transactionTemplate.execute(status ->
+                        new NoticeDetailResponseDto(noticeRepository.findById(id).orElseThrow()));
+                assertEquals(1, notice.getAttachmentUrls().size());
+            }
+        }
+
+        assertHitRatio(statistics.getDomainDataRegionStatistics(CacheRegions.NOTICE), 0.9);
+        assertHitRatio(statistics.getDomainDataRegionStatistics(CacheRegions.NOTICE_ATTACHMENTS), 0.9);
+        assertHitRatio(statistics.getDomainDataRegionStatistics(CacheRegions.USER), 0.9);
+        // 캐시에 적재되는 첫 조회 이후에는 SQL을 실행하지 않음
+        assertTrue(statistics.getPrepareStatementCount() <= NOTICES * 3L,
+                "실행한 SQL 수: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("2차 캐시 테스트 2. 검색 조건이 없는 앞쪽 페이지는 쿼리 캐시에서 읽고 공지사항이 변경되면 무효화")
+    void testSearchNotices_HitsQueryCacheAndInvalidatesOnWrite() {
+        Pageable firstPage = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        statistics.clear();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int page = 0; page < 2; page++) {
+                search(PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+            }
+        }
+        assertHitRatio(statistics.getQueryRegionStatistics(CacheRegions.NOTICE_LIST_QUERY), 0.8); // 기준 시각 단위가 바뀌면 한 번 더 적재될 수 있음
+
+        Long latestId = search(firstPage).getContent().get(0).getId();
+        transactionTemplate.executeWithoutResult(status ->
+                noticeRepository.findById(latestId).orElseThrow().setTitle("수정된 공지"));
+
+        long misses = statistics.getQueryCacheMissCount();
+        assertEquals("수정된 공지", search(firstPage).getContent().get(0).getTitle());
+        assertTrue(statistics.getQueryCacheMissCount() > misses); // NOTICE 테이블 변경으로 캐시된 결과를 사용하지 않음
+    }
+
+    private Page<NoticeListResponseDto> search(Pageable pageable) {
+        return transactionTemplate.execute(status ->
+                noticeRepository.searchNotices(null, null, null, null, LocalDateTime.now(), pageable));
+    }
+
+    private static void assertHitRatio(CacheRegionStatistics region, double expected) {
+        long requests = region.getHitCount() + region.getMissCount();
+        double hitRatio = requests == 0 ? 0 : (double) region.getHitCount() / requests;
+        assertTrue(hitRatio >= expected,
+                region.getRegionName() + " 적중률: " + hitRatio + " (hit=" + region.getHitCount() + ", miss=" + region.getMissCount() + ")");
+    }
+}
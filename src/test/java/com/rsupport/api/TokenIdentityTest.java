@@ -0,0 +1,87 @@
+package com.rsupport.api;
+
+import com.rsupport.api.identity.IdentityTokenCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 토큰 모드에서 세션 없이 서명된 토큰으로 사용자를 식별하는지 검증
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:token-identity",
+        "notice.identity.mode=token",
+        "notice.identity.token-secret=" + TokenIdentityTest.SECRET
+})
+@AutoConfigureMockMvc
+class TokenIdentityTest {
+    static final String SECRET = "test-token-secret-0123456789abcdef";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private final IdentityTokenCodec tokenCodec = new IdentityTokenCodec(SECRET);
+
+    @Test
+    @DisplayName("토큰 인증 테스트 1. 유효한 토큰으로 등록하고 세션을 만들지 않음")
+    void testSaveNotice_WithValidToken() throws Exception {
+        MvcResult result = mockMvc.perform(register()
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenCodec.encode(1L, Instant.now().plus(1, ChronoUnit.HOURS))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false));
+    }
+
+    @Test
+    @DisplayName("토큰 인증 테스트 2. 토큰이 없거나 서명이 다르거나 만료되면 401로 거부")
+    void testSaveNotice_WithInvalidToken() throws Exception {
+        String expired = tokenCodec.encode(1L, Instant.now().minus(1, ChronoUnit.MINUTES));
+        String forged = new IdentityTokenCodec(SECRET.replace('0', 'x')).encode(1L, Instant.now().plus(1, ChronoUnit.HOURS));
+
+        mockMvc.perform(register())
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"));
+        mockMvc.perform(register().header(HttpHeaders.AUTHORIZATION, "Bearer " + forged))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(register().header(HttpHeaders.AUTHORIZATION, "Bearer " + expired))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(register().header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("토큰 인증 테스트 3. 조회 요청은 사용자 정보 없이 처리")
+    void testGetNotices_WithoutIdentity() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/notices"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertNull(result.getRequest().getSession(false));
+    }
+
+    private MockHttpServletRequestBuilder register() {
+        return MockMvcRequestBuilders.multipart("/api/notices")
+                .param("title", "Title")
+                .param("content", "Content")
+                .param("startAt", LocalDateTime.now().minusDays(1).toString())
+                .param("endAt", LocalDateTime.now().plusDays(1).toString())
+                .contentType(MediaType.MULTIPART_FORM_DATA);
+    }
+}
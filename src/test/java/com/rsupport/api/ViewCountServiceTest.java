@@ -0,0 +1,132 @@
+package com.rsupport.api;
+
+import com.rsupport.api.entity.Notice;
+import com.rsupport.api.repository.NoticeRepository;
+import com.rsupport.api.repository.UserRepository;
+import com.rsupport.api.service.ViewCountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:view-count")
+class ViewCountServiceTest {
+    private static final int THREADS = 16;
+    private static final int VIEWS_PER_THREAD = 500;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("조회수 반영 테스트 1. 조회와 DB 반영이 동시에 일어나도 조회수가 유실되지 않음")
+    void testSyncViewCounts_NoLostIncrements() throws Exception {
+        viewCountService.syncViewCountsToDB(); // 다른 테스트가 남긴 조회수 정리
+
+        Notice notice = noticeRepository.save(Notice.builder()
+                .title("View Count Title")
+                .content("View Count Content")
+                .author(userRepository.findById(1L).orElseThrow())
+                .startAt(LocalDateTime.now().minusDays(3))
+                .endAt(LocalDateTime.now().plusDays(3))
+                .attachments(new ArrayList<>())
+                .viewCount(0)
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean viewing = new AtomicBoolean(true);
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (viewing.get()) {
+                    viewCountService.syncViewCountsToDB();
+                }
+                return null;
+            });
+
+            Future<?>[] viewers = new Future<?>[THREADS];
+            for (int i = 0; i < THREADS; i++) {
+                viewers[i] = executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < VIEWS_PER_THREAD; j++) {
+                        viewCountService.increment(notice.getId());
+                    }
+                    return null;
+                });
+            }
+
+            start.countDown();
+            for (Future<?> viewer : viewers) {
+                viewer.get(1, TimeUnit.MINUTES);
+            }
+            viewing.set(false);
+            flusher.get(1, TimeUnit.MINUTES);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        viewCountService.syncViewCountsToDB();
+        assertEquals(THREADS * VIEWS_PER_THREAD, noticeRepository.findById(notice.getId()).orElseThrow().getViewCount());
+    }
+
+    @Test
+    @DisplayName("조회수 반영 테스트 2. 조회수를 읽은 뒤 DB에 반영되어도 공지 수정이 조회수를 덮어쓰지 않음")
+    void testUpdateNotice_KeepsFlushedViewCount() throws Exception {
+        Notice notice = noticeRepository.save(Notice.builder()
+                .title("View Count Title")
+                .content("View Count Content")
+                .author(userRepository.findById(1L).orElseThrow())
+                .startAt(LocalDateTime.now().minusDays(3))
+                .endAt(LocalDateTime.now().plusDays(3))
+                .attachments(new ArrayList<>())
+                .viewCount(0)
+                .build());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Notice loaded = noticeRepository.findById(notice.getId()).orElseThrow(); // 조회수 0으로 읽음
+
+            // 수정 트랜잭션이 끝나기 전에 다른 스레드에서 조회수를 DB에 반영
+            try {
+                CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 5; i++) {
+                        viewCountService.increment(notice.getId());
+                    }
+                    viewCountService.syncViewCountsToDB();
+                }).get(1, TimeUnit.MINUTES);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+
+            loaded.setTitle("Updated Title");
+        });
+
+        assertEquals("Updated Title", noticeRepository.findById(notice.getId()).orElseThrow().getTitle());
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT VIEW_COUNT FROM NOTICE WHERE ID = ?", Integer.class, notice.getId()));
+    }
+}